@@ -1,14 +1,20 @@
 package com.playdata.batchpractice;
 
+import com.playdata.batchpractice.runner.HeadlessJobRunner;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
-@EnableBatchProcessing
+// ExecutionContext 는 기본 Java 직렬화 대신 압축 형식으로 저장
+@EnableBatchProcessing(executionContextSerializerRef = "compactExecutionContextSerializer")
 public class BatchPracticeApplication {
 
     public static void main(String[] args) {
+        // --job=잡이름 이 있으면 웹 서버 없이 잡 하나만 실행하고 종료
+        if (HeadlessJobRunner.isRequested(args)) {
+            System.exit(HeadlessJobRunner.run(args));
+        }
         SpringApplication.run(BatchPracticeApplication.class, args);
     }
 
@@ -0,0 +1,184 @@
+package com.playdata.batchpractice.config;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.listener.JfrBatchListener;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import com.playdata.batchpractice.service.OrderStatusSummaryService;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameter;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.JobParametersValidator;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+====================================
+     완료 주문 보관(archive) 배치
+====================================
+
+목표: 더 이상 처리하지 않는 오래된 주문을 orders_archive 로 옮겨 orders 를 가볍게 유지
+핵심 개념: CONTINUABLE Tasklet, ExecutionContext 로 재시작 지점 저장
+
+- 대상: COMPLETED, CANCELLED 이면서 retentionDays 일보다 오래된 주문
+- batchSize 개씩 id 범위로 INSERT ... SELECT 후 DELETE (한 번에 한 트랜잭션)
+- 배치 사이에 pauseMillis 만큼 쉬어서 락 점유와 복제 지연을 줄임
+- 마지막으로 옮긴 id 를 step ExecutionContext 에 저장 -> 실패 후 재실행하면 그 다음부터 진행
+*/
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class ArchiveBatchConfig {
+
+    private static final String CUTOFF_KEY = "archive.cutoff";
+    private static final String LAST_ID_KEY = "archive.lastId";
+
+    // 파라미터를 안 넘겼을 때 기본값 (CLI 실행 등, API 기본값과 같음)
+    private static final long DEFAULT_RETENTION_DAYS = 30;
+    private static final long DEFAULT_BATCH_SIZE = 1000;
+    private static final long DEFAULT_PAUSE_MILLIS = 200;
+
+    private static final String FINISHED_CONDITION = """
+            id > ? AND id <= ?
+            AND status IN ('COMPLETED', 'CANCELLED')
+            AND order_date < ?
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JfrBatchListener jfrBatchListener;
+    private final OrderStatusSummaryService orderStatusSummaryService;
+
+    @Bean
+    @StepScope
+    public Tasklet orderArchiveTasklet(
+            @Value("#{jobParameters['retentionDays']}") Long retentionDays,
+            @Value("#{jobParameters['batchSize']}") Long batchSize,
+            @Value("#{jobParameters['pauseMillis']}") Long pauseMillis
+    ) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long retention = retentionDays != null ? retentionDays : DEFAULT_RETENTION_DAYS;
+        long limit = batchSize != null ? batchSize : DEFAULT_BATCH_SIZE;
+        long pause = pauseMillis != null ? pauseMillis : DEFAULT_PAUSE_MILLIS;
+
+        return (contribution, chunkContext) -> {
+            ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+            // 기준 시각은 처음 실행할 때 한 번만 정함 (재시작해도 같은 기준 유지)
+            if (!context.containsKey(CUTOFF_KEY)) {
+                context.putString(CUTOFF_KEY, LocalDate.now().minusDays(retention).atStartOfDay().toString());
+            }
+            LocalDateTime cutoff = LocalDateTime.parse(context.getString(CUTOFF_KEY));
+
+            // 두 번째 배치부터는 쉬었다가 진행 (아직 아무 쿼리도 실행 전이라 락을 잡고 있지 않음)
+            if (context.containsKey(LAST_ID_KEY) && pause > 0) {
+                Thread.sleep(pause);
+            }
+            long fromId = context.getLong(LAST_ID_KEY, 0L);
+
+            List<Long> ids = jdbcTemplate.queryForList("""
+                    SELECT id FROM orders
+                    WHERE id > ?
+                    AND status IN ('COMPLETED', 'CANCELLED')
+                    AND order_date < ?
+                    ORDER BY id
+                    LIMIT ?
+                    """, Long.class, fromId, cutoff, limit);
+            if (ids.isEmpty()) {
+                log.info("주문 보관 완료 - 기준: {}, 마지막 id: {}", cutoff, fromId);
+                return RepeatStatus.FINISHED;
+            }
+            long toId = ids.get(ids.size() - 1);
+
+            // 옮길 주문을 먼저 FOR UPDATE 로 잠그고 읽음 -> 아래 INSERT ... SELECT / DELETE 와 같은 행 집합
+            // (잠그지 않고 읽으면 그 사이 바뀐 상태로 집계를 빼게 됨)
+            List<Order> moving = jdbcTemplate.query(
+                    "SELECT " + OrderRowMapper.COLUMNS + " FROM orders WHERE " + FINISHED_CONDITION
+                            + " ORDER BY id FOR UPDATE",
+                    new OrderRowMapper(), fromId, toId, cutoff);
+            orderStatusSummaryService.removeOrders(moving);
+
+            int archived = jdbcTemplate.update("""
+                    INSERT INTO orders_archive
+                        (id, order_number, customer_name, amount, status, order_date, processed_date, archived_date)
+                    SELECT id, order_number, customer_name, amount, status, order_date, processed_date, ?
+                    FROM orders WHERE
+                    """ + FINISHED_CONDITION, LocalDateTime.now(), fromId, toId, cutoff);
+            int deleted = jdbcTemplate.update("DELETE FROM orders WHERE " + FINISHED_CONDITION, fromId, toId, cutoff);
+
+            contribution.incrementWriteCount(deleted);
+            context.putLong(LAST_ID_KEY, toId);
+            log.info("주문 보관: id {} ~ {} ({}건 보관, {}건 삭제)", fromId + 1, toId, archived, deleted);
+
+            // CONTINUABLE: 커밋 후(ExecutionContext 저장 포함) 다음 배치 진행
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    @Bean
+    public Step orderArchiveStep() {
+        return new StepBuilder("orderArchiveStep", jobRepository)
+                .tasklet(orderArchiveTasklet(null, null, null), transactionManager)
+                .listener(jfrBatchListener)
+                .build();
+    }
+
+    @Bean
+    public Job orderArchiveJob() {
+        return new JobBuilder("orderArchiveJob", jobRepository)
+                .validator(orderArchiveParametersValidator())
+                .listener(jfrBatchListener)
+                .start(orderArchiveStep())
+                .build();
+    }
+
+    // 넘긴 값만 확인 (없으면 tasklet 에서 기본값 사용)
+    private JobParametersValidator orderArchiveParametersValidator() {
+        return parameters -> {
+            Long retentionDays = longParameter(parameters, "retentionDays");
+            Long batchSize = longParameter(parameters, "batchSize");
+            Long pauseMillis = longParameter(parameters, "pauseMillis");
+            if (retentionDays != null && retentionDays < 0) {
+                throw new JobParametersInvalidException("retentionDays 는 0 이상이어야 함: " + retentionDays);
+            }
+            if (batchSize != null && batchSize <= 0) {
+                throw new JobParametersInvalidException("batchSize 는 0 보다 커야 함: " + batchSize);
+            }
+            if (pauseMillis != null && pauseMillis < 0) {
+                throw new JobParametersInvalidException("pauseMillis 는 0 이상이어야 함: " + pauseMillis);
+            }
+        };
+    }
+
+    // CLI 에서 타입 없이 넘기면 String 으로 들어오므로 값 자체를 숫자로 해석
+    private static Long longParameter(JobParameters parameters, String name) throws JobParametersInvalidException {
+        JobParameter<?> parameter = parameters.getParameter(name);
+        if (parameter == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(String.valueOf(parameter.getValue()));
+        } catch (NumberFormatException e) {
+            throw new JobParametersInvalidException(name + " 는 숫자여야 함: " + parameter.getValue());
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.playdata.batchpractice.config;
 
 import com.playdata.batchpractice.entity.User;
+import com.playdata.batchpractice.listener.JfrBatchListener;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -16,9 +18,12 @@ import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
 import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
 import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.transaction.PlatformTransactionManager;
 
@@ -47,15 +52,24 @@ public class BasicBatchConfig {
     private final PlatformTransactionManager transactionManager;
     // 데이터베이스 연결 정보
     private final DataSource dataSource;
+    private final JfrBatchListener jfrBatchListener;
 
     // 데이터 읽기 (ItemReader)
+    // inputFile 파라미터가 있으면 그 파일을, 없으면 기본 users.csv 를 읽음
     @Bean
-    public FlatFileItemReader<User> userCsvReader() {
+    @StepScope
+    public FlatFileItemReader<User> userCsvReader(
+            @Value("#{jobParameters['inputFile']}") String inputFile
+    ) {
+        Resource resource = inputFile != null
+                ? new FileSystemResource(inputFile)
+                // ClassPathResource: src/main/resources 경로에 있는 파일을 읽어들이는 객체
+                : new ClassPathResource("users.csv");
+
         return new FlatFileItemReaderBuilder<User>()
                 .name("userCsvReader") // 이름 지어주기
                 // 어떤 파일을 읽을것인가
-                // ClassPathResource: src/main/resources 경로에 있는 파일을 읽어들이는 객체
-                .resource(new ClassPathResource("users.csv"))
+                .resource(resource)
                 .delimited() // 쉼표로 구분된 csv 파일입니다.
                 .names("id", "name", "email", "age", "city") // 컬럼 정보
                 .fieldSetMapper(
@@ -87,8 +101,9 @@ public class BasicBatchConfig {
                 // chunk(10): 10개씩 묵어서 처리, 단위별로 작업 후 commit, 문제가 있다면 rollback
                 // 단위를 나눠놓지 않으면 전체 데이터가 rollback 되기 때문에, 작은 단위로 나눠 작업을 진행
                 .<User, User>chunk(10, transactionManager)
-                .reader(userCsvReader())
+                .reader(userCsvReader(null)) // 매개값은 jobParameter 에서 가져옴
                 .writer(userDbWriter())
+                .listener(jfrBatchListener)
                 .build();
     }
 
@@ -96,6 +111,7 @@ public class BasicBatchConfig {
     @Bean
     public Job csvToDbJob() {
         return new JobBuilder("csvToDbJob", jobRepository)
+                .listener(jfrBatchListener)
                 .start(csvToDbStep())
                 .build();
     }
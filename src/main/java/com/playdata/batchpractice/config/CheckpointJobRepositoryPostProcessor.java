@@ -0,0 +1,164 @@
+package com.playdata.batchpractice.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/*
+====================================
+       체크포인트 주기 조절
+====================================
+
+기본 동작: 청크가 커밋될 때마다 BATCH_STEP_EXECUTION_CONTEXT, BATCH_STEP_EXECUTION 을 UPDATE.
+chunk(3) 처럼 청크가 작으면 아이템 3개마다 메타데이터 쓰기가 2번씩 일어난다.
+
+batch.checkpoint.steps.[스텝이름] 에 설정한 스텝은
+- every-chunks 청크마다, 또는 interval 시간이 지났을 때만 체크포인트를 저장
+- 스텝 시작/종료(상태 변경) 시점은 항상 저장
+스텝이 끝나면 메타데이터 쓰기 횟수(저장/생략)와 아이템당 쓰기 수를 로그로 남긴다.
+
+주의: 중간에 실패하면 마지막 체크포인트 이후 청크는 재시작 시 다시 처리되므로
+      같은 아이템을 다시 써도 결과가 같은(멱등) Writer 를 쓰는 스텝에만 설정한다.
+      중지(stop) 요청도 체크포인트 시점에만 감지된다.
+*/
+
+@Component
+@Slf4j
+public class CheckpointJobRepositoryPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private CheckpointProperties properties = new CheckpointProperties();
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.properties = Binder.get(environment)
+                .bind("batch.checkpoint", CheckpointProperties.class)
+                .orElseGet(CheckpointProperties::new);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof JobRepository) || properties.getSteps().isEmpty()) {
+            return bean;
+        }
+        log.info("체크포인트 주기 설정 적용: {}", properties.getSteps().keySet());
+
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(bean);
+        proxyFactory.addInterface(JobRepository.class);
+        proxyFactory.addAdvice(new CheckpointInterceptor(properties.getSteps()));
+        return proxyFactory.getProxy();
+    }
+
+    @Getter
+    @Setter
+    public static class CheckpointProperties {
+        // 스텝 이름 -> 체크포인트 주기
+        private Map<String, StepCheckpoint> steps = new HashMap<>();
+    }
+
+    @Getter
+    @Setter
+    public static class StepCheckpoint {
+        private int everyChunks = 1;
+        private Duration interval;
+    }
+
+    // JobRepository 의 update(StepExecution), updateExecutionContext(StepExecution) 만 가로챔
+    static class CheckpointInterceptor implements MethodInterceptor {
+
+        private final Map<String, StepCheckpoint> policies;
+        private final Map<Long, CheckpointState> states = new ConcurrentHashMap<>();
+
+        CheckpointInterceptor(Map<String, StepCheckpoint> policies) {
+            this.policies = policies;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String method = invocation.getMethod().getName();
+            Object[] args = invocation.getArguments();
+            if (args.length != 1 || !(args[0] instanceof StepExecution stepExecution)
+                    || !(method.equals("update") || method.equals("updateExecutionContext"))) {
+                return invocation.proceed();
+            }
+
+            StepCheckpoint policy = policies.get(stepExecution.getStepName());
+            if (policy == null || stepExecution.getId() == null) {
+                return invocation.proceed();
+            }
+
+            CheckpointState state = states.computeIfAbsent(stepExecution.getId(), id -> new CheckpointState());
+            boolean contextUpdate = method.equals("updateExecutionContext");
+
+            if (!state.shouldWrite(stepExecution, policy, contextUpdate)) {
+                state.skipped++;
+                return null;
+            }
+            state.written++;
+            Object result = invocation.proceed();
+
+            // 종료 상태가 저장되면 결과 기록 후 정리
+            if (!contextUpdate && !stepExecution.getStatus().isRunning()) {
+                states.remove(stepExecution.getId());
+                long items = Math.max(1, stepExecution.getWriteCount());
+                log.info("[{}] 메타데이터 쓰기 {}회 (생략 {}회) - 아이템당 {} -> {}",
+                        stepExecution.getStepName(), state.written, state.skipped,
+                        String.format("%.3f", (double) (state.written + state.skipped) / items),
+                        String.format("%.3f", (double) state.written / items));
+            }
+            return result;
+        }
+    }
+
+    static class CheckpointState {
+        long written;
+        long skipped;
+
+        private boolean started;
+        private int pendingChunks;
+        private long lastCheckpointNanos = System.nanoTime();
+        private boolean checkpointInProgress;
+
+        boolean shouldWrite(StepExecution stepExecution, StepCheckpoint policy, boolean contextUpdate) {
+            // 처음 STARTED 저장, 그리고 STARTED 가 아닌 상태(종료, 중지 중 등)는 항상 저장
+            if (!started || stepExecution.getStatus() != BatchStatus.STARTED) {
+                started = true;
+                return true;
+            }
+
+            // 청크 커밋 순서: updateExecutionContext -> update(StepExecution)
+            // ExecutionContext 저장 여부를 정하면 바로 뒤의 StepExecution 저장도 같이 따라감
+            if (contextUpdate) {
+                pendingChunks++;
+                boolean chunksDue = pendingChunks >= policy.getEveryChunks();
+                boolean timeDue = policy.getInterval() != null
+                        && System.nanoTime() - lastCheckpointNanos >= policy.getInterval().toNanos();
+                checkpointInProgress = chunksDue || timeDue;
+                if (checkpointInProgress) {
+                    pendingChunks = 0;
+                    lastCheckpointNanos = System.nanoTime();
+                }
+                return checkpointInProgress;
+            }
+
+            boolean write = checkpointInProgress;
+            checkpointInProgress = false;
+            return write;
+        }
+    }
+}
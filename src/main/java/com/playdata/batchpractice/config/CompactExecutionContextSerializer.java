@@ -0,0 +1,181 @@
+package com.playdata.batchpractice.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.core.repository.ExecutionContextSerializer;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.stereotype.Component;
+
+/*
+====================================
+   ExecutionContext 압축 직렬화
+====================================
+
+청크가 커밋될 때마다 ExecutionContext 가 직렬화되어 BATCH_STEP_EXECUTION_CONTEXT 에 저장된다.
+기본 직렬화(Java 직렬화 + Base64)는 HashMap 클래스 정보까지 들어가서 몇 개 안 되는 값도 수백 바이트가 된다.
+
+형식: Base64( MAGIC | 항목 수 | (키, 타입 태그, 값)* )
+- String, Long, Integer, Double, Boolean 은 타입 태그 1바이트 + 값만 저장
+- 그 밖의 타입만 Java 직렬화
+- MAGIC 이 없으면(기존에 저장된 값) 기본 직렬화로 읽음
+*/
+
+@Component
+public class CompactExecutionContextSerializer implements ExecutionContextSerializer {
+
+    private static final byte MAGIC = (byte) 0xCB;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte LONG = 2;
+    private static final byte INTEGER = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte OBJECT = 6;
+
+    private final DefaultExecutionContextSerializer fallback = new DefaultExecutionContextSerializer();
+
+    @Override
+    public void serialize(Map<String, Object> context, OutputStream out) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        DataOutputStream data = new DataOutputStream(buffer);
+
+        data.writeByte(MAGIC);
+        writeVarInt(data, context.size());
+        for (Map.Entry<String, Object> entry : context.entrySet()) {
+            writeString(data, entry.getKey());
+            writeValue(data, entry.getValue());
+        }
+        data.flush();
+
+        // JdbcExecutionContextDao 가 문자열 컬럼에 저장하므로 Base64 로 인코딩
+        out.write(Base64.getEncoder().encode(buffer.toByteArray()));
+    }
+
+    @Override
+    public Map<String, Object> deserialize(InputStream in) throws IOException {
+        byte[] encoded = in.readAllBytes();
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            return fallback.deserialize(new ByteArrayInputStream(encoded));
+        }
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            return fallback.deserialize(new ByteArrayInputStream(encoded));
+        }
+
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+        int size = readVarInt(data);
+        Map<String, Object> context = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = readString(data);
+            context.put(key, readValue(data));
+        }
+        return context;
+    }
+
+    private void writeValue(DataOutputStream data, Object value) throws IOException {
+        if (value == null) {
+            data.writeByte(NULL);
+        } else if (value instanceof String s) {
+            data.writeByte(STRING);
+            writeString(data, s);
+        } else if (value instanceof Long l) {
+            data.writeByte(LONG);
+            writeVarLong(data, l);
+        } else if (value instanceof Integer i) {
+            data.writeByte(INTEGER);
+            writeVarLong(data, i);
+        } else if (value instanceof Double d) {
+            data.writeByte(DOUBLE);
+            data.writeDouble(d);
+        } else if (value instanceof Boolean b) {
+            data.writeByte(BOOLEAN);
+            data.writeBoolean(b);
+        } else {
+            data.writeByte(OBJECT);
+            ByteArrayOutputStream objectBytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(objectBytes)) {
+                oos.writeObject(value);
+            }
+            writeVarInt(data, objectBytes.size());
+            objectBytes.writeTo(data);
+        }
+    }
+
+    private Object readValue(DataInputStream data) throws IOException {
+        byte type = data.readByte();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> readString(data);
+            case LONG -> readVarLong(data);
+            case INTEGER -> (int) readVarLong(data);
+            case DOUBLE -> data.readDouble();
+            case BOOLEAN -> data.readBoolean();
+            case OBJECT -> {
+                byte[] objectBytes = new byte[readVarInt(data)];
+                data.readFully(objectBytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(objectBytes))) {
+                    yield ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("ExecutionContext 값 역직렬화 실패", e);
+                }
+            }
+            default -> throw new IOException("알 수 없는 ExecutionContext 타입 태그: " + type);
+        };
+    }
+
+    private void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[readVarInt(data)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeVarInt(DataOutputStream data, int value) throws IOException {
+        writeVarLong(data, value & 0xFFFFFFFFL);
+    }
+
+    private int readVarInt(DataInputStream data) throws IOException {
+        return (int) readVarLong(data);
+    }
+
+    // zig-zag 가변 길이 정수: 작은 값(카운트 등)은 1~2 바이트
+    private void writeVarLong(DataOutputStream data, long value) throws IOException {
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            data.writeByte((int) ((zigZag & 0x7F) | 0x80));
+            zigZag >>>= 7;
+        }
+        data.writeByte((int) zigZag);
+    }
+
+    private long readVarLong(DataInputStream data) throws IOException {
+        long zigZag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+}
@@ -1,6 +1,11 @@
 package com.playdata.batchpractice.config;
 
 import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.listener.JfrBatchListener;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import com.playdata.batchpractice.service.AdaptiveWriteThrottle;
+import com.playdata.batchpractice.writer.OrderFanOutWriterFactory;
+import com.playdata.batchpractice.writer.ThrottledItemWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -9,13 +14,13 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
@@ -43,24 +48,31 @@ public class FalutTolerantBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
+    private final JfrBatchListener jfrBatchListener;
+    private final OrderCursorSettings orderCursorSettings;
+    private final AdaptiveWriteThrottle adaptiveWriteThrottle;
+    private final OrderFanOutWriterFactory orderFanOutWriterFactory;
 
 
     // 1. ItemReader - 그대로 진행
     @Bean
     public JdbcCursorItemReader<Order> falutTolerantOrderReader() {
         String sql = """
-                SELECT id, order_number, customer_name, amount, status, order_date, processed_date
+                SELECT %s
                 FROM orders 
                 WHERE status = 'PENDING'
-                AND order_date < NOW() - INTERVAL 10 MINUTE
+                AND order_date < ?
                 ORDER BY order_date
-                """;
+                """.formatted(OrderRowMapper.COLUMNS);
 
-        return new JdbcCursorItemReaderBuilder<Order>()
+        return orderCursorSettings.apply(new JdbcCursorItemReaderBuilder<Order>())
                 .name("pendingOrderReader")
+                .saveState(false)
                 .dataSource(dataSource)
                 .sql(sql)
-                .rowMapper(new BeanPropertyRowMapper<>(Order.class))
+                // 기준 시각은 reader 가 열릴 때 계산 (DB 전용 함수 대신 파라미터로 전달)
+                .preparedStatementSetter(ps -> ps.setObject(1, LocalDateTime.now().minusMinutes(10)))
+                .rowMapper(new OrderRowMapper())
                 .build();
     }
 
@@ -109,7 +121,7 @@ public class FalutTolerantBatchConfig {
 
     // 3. ItemWriter - 기존과 동일하게 유지
     @Bean
-    public JdbcBatchItemWriter<Order> faultTolerantWriter() {
+    public ItemWriter<Order> faultTolerantWriter() {
         JdbcBatchItemWriter<Order> writer = new JdbcBatchItemWriter<>();
         writer.setDataSource(dataSource);
         writer.setSql("""
@@ -125,7 +137,8 @@ public class FalutTolerantBatchConfig {
         });
 
         writer.afterPropertiesSet();
-        return writer;
+        ItemWriter<Order> fanOutWriter = orderFanOutWriterFactory.create(writer);
+        return new ThrottledItemWriter<>(fanOutWriter, adaptiveWriteThrottle);
     }
 
     // 4. step (예외 처리 기능이 추가된 step)
@@ -149,6 +162,10 @@ public class FalutTolerantBatchConfig {
                 .retry(IllegalStateException.class)
                 .retryLimit(3) // 최대 3번까지 재시도
 
+                // JFR 이벤트 (스킵/재시도 포함)
+                .listener(jfrBatchListener)
+                .listener(jfrBatchListener.retryListener())
+
                 .build();
     }
 
@@ -156,6 +173,7 @@ public class FalutTolerantBatchConfig {
     @Bean
     public Job faultTolerantJob() {
         return new JobBuilder("falutTolerantJob", jobRepository)
+                .listener(jfrBatchListener)
                 .start(faultTolerantStep())
                 .build();
     }
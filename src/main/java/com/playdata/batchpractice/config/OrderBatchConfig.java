@@ -2,6 +2,11 @@ package com.playdata.batchpractice.config;
 
 import com.playdata.batchpractice.entity.Order;
 import com.playdata.batchpractice.entity.Order.OrderStatus;
+import com.playdata.batchpractice.listener.JfrBatchListener;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import com.playdata.batchpractice.service.AdaptiveWriteThrottle;
+import com.playdata.batchpractice.writer.OrderFanOutWriterFactory;
+import com.playdata.batchpractice.writer.ThrottledItemWriter;
 import java.time.LocalDateTime;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
@@ -12,13 +17,13 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /*
@@ -43,23 +48,33 @@ public class OrderBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
+    private final JfrBatchListener jfrBatchListener;
+    private final OrderCursorSettings orderCursorSettings;
+    private final AdaptiveWriteThrottle adaptiveWriteThrottle;
+    private final OrderFanOutWriterFactory orderFanOutWriterFactory;
 
     // 1. ItemReader - PENDING 상태 주문들을 DB에서 조회
     @Bean
     public JdbcCursorItemReader<Order> pendingOrderReader() {
         String sql = """
-            SELECT id, order_number, customer_name, amount, status, order_date, processed_date
+            SELECT %s
             FROM orders 
             WHERE status = 'PENDING'
-            AND order_date < NOW() - INTERVAL 10 MINUTE
+            AND order_date < ?
             ORDER BY order_date
-            """;
+            """.formatted(OrderRowMapper.COLUMNS);
 
-        return new JdbcCursorItemReaderBuilder<Order>()
+        // 모든 주문 Reader 에 동일한 스트리밍/커서 fetch 설정 적용
+        return orderCursorSettings.apply(new JdbcCursorItemReaderBuilder<Order>())
                 .name("pendingOrderReader")
+                // 재시작하면 남은 PENDING 만 다시 조회하면 되므로 읽은 위치는 저장하지 않음
+                .saveState(false)
                 .dataSource(dataSource)
                 .sql(sql)
-                .rowMapper(new BeanPropertyRowMapper<>(Order.class))
+                // 기준 시각은 reader 가 열릴 때 계산 (DB 전용 함수 대신 파라미터로 전달)
+                .preparedStatementSetter(ps -> ps.setObject(1, LocalDateTime.now().minusMinutes(10)))
+                // 컬럼 순서로 바로 매핑 (BeanPropertyRowMapper 의 행마다 이름 변환 + 리플렉션 비용 제거)
+                .rowMapper(new OrderRowMapper())
                 .build();
     }
 
@@ -84,7 +99,7 @@ public class OrderBatchConfig {
 
     // 3. ItemWriter - 데이터베이스 업데이트
     @Bean
-    public JdbcBatchItemWriter<Order> orderWriter() {
+    public ItemWriter<Order> orderWriter() {
 //        return new JdbcBatchItemWriterBuilder<Order>()
 //                .dataSource(dataSource)
 //                .sql(
@@ -118,7 +133,11 @@ public class OrderBatchConfig {
         });
 
         writer.afterPropertiesSet();
-        return writer;
+        // 아직 PENDING 인 주문만 잠근 뒤 상태 UPDATE + 이력/outbox INSERT + 집계를 청크당 테이블별 batch 한 번씩
+        ItemWriter<Order> fanOutWriter = orderFanOutWriterFactory.create(writer);
+
+        // 실시간 트래픽 보호를 위해 쓰기 속도 제한 (대기 시간은 step 요약에 기록)
+        return new ThrottledItemWriter<>(fanOutWriter, adaptiveWriteThrottle);
     }
 
     // 4. step
@@ -129,6 +148,7 @@ public class OrderBatchConfig {
                 .reader(pendingOrderReader())
                 .processor(orderProcessor())
                 .writer(orderWriter())
+                .listener(jfrBatchListener)
                 .build();
     }
 
@@ -136,6 +156,7 @@ public class OrderBatchConfig {
     @Bean
     public Job orderProcessJob() {
         return new JobBuilder("orderProcessJob", jobRepository)
+                .listener(jfrBatchListener)
                 .start(orderProcessStep())
 //                .next(orderProcessStep()) // Step 가 더 있다면 next 로 추가
                 .build();
@@ -0,0 +1,51 @@
+package com.playdata.batchpractice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+====================================
+    주문 Reader 커서(fetch) 설정
+====================================
+
+MySQL Connector/J 는 fetchSize 를 지정하지 않으면 결과 전체를 heap 에 올린 뒤 첫 행을 돌려준다.
+대량의 PENDING 주문이 쌓이면 OOM 이 날 수 있으므로, 모든 주문 Reader 에 같은 모드를 적용한다.
+
+- ROW_STREAMING: fetchSize = Integer.MIN_VALUE, 한 행씩 스트리밍 (읽는 동안 커넥션 점유)
+- CURSOR_FETCH : 서버 측 커서로 fetch-size 만큼씩 가져옴 (URL 에 useCursorFetch=true 필요)
+- BUFFERED     : 드라이버 기본 동작 (전체 버퍼링)
+*/
+
+@Component
+@Slf4j
+public class OrderCursorSettings {
+
+    public enum Mode {
+        BUFFERED, ROW_STREAMING, CURSOR_FETCH
+    }
+
+    private final Mode mode;
+    private final int fetchSize;
+
+    public OrderCursorSettings(
+            @Value("${batch.reader.cursor-mode:CURSOR_FETCH}") Mode mode,
+            @Value("${batch.reader.fetch-size:500}") int fetchSize
+    ) {
+        this.mode = mode;
+        this.fetchSize = fetchSize;
+        log.info("주문 Reader 커서 모드: {}, fetchSize: {}", mode, fetchSize);
+    }
+
+    public <T> JdbcCursorItemReaderBuilder<T> apply(JdbcCursorItemReaderBuilder<T> builder) {
+        switch (mode) {
+            case ROW_STREAMING -> builder.fetchSize(Integer.MIN_VALUE);
+            case CURSOR_FETCH -> builder.fetchSize(fetchSize);
+            case BUFFERED -> {
+                // 드라이버 기본값 사용
+            }
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,61 @@
+package com.playdata.batchpractice.config;
+
+import com.playdata.batchpractice.listener.JfrBatchListener;
+import com.playdata.batchpractice.service.OrderStatusSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/*
+====================================
+      주문 상태 집계 재계산 배치
+====================================
+
+목표: Writer 들이 증감으로 관리하는 order_status_summary 가 orders 와 어긋났을 때 복구
+핵심 개념: Tasklet 한 번으로 집계 테이블 전체를 다시 계산
+*/
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JfrBatchListener jfrBatchListener;
+    private final OrderStatusSummaryService orderStatusSummaryService;
+
+    @Bean
+    public Tasklet orderSummaryReconcileTasklet() {
+        return (contribution, chunkContext) -> {
+            int rows = orderStatusSummaryService.rebuild();
+            contribution.incrementWriteCount(rows);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    @Bean
+    public Step orderSummaryReconcileStep() {
+        return new StepBuilder("orderSummaryReconcileStep", jobRepository)
+                .tasklet(orderSummaryReconcileTasklet(), transactionManager)
+                .listener(jfrBatchListener)
+                .build();
+    }
+
+    @Bean
+    public Job orderSummaryReconcileJob() {
+        return new JobBuilder("orderSummaryReconcileJob", jobRepository)
+                .listener(jfrBatchListener)
+                .start(orderSummaryReconcileStep())
+                .build();
+    }
+}
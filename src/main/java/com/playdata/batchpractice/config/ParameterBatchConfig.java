@@ -1,7 +1,12 @@
 package com.playdata.batchpractice.config;
 
 import com.playdata.batchpractice.entity.Order;
-import jakarta.persistence.EntityManager;
+import com.playdata.batchpractice.listener.JfrBatchListener;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import com.playdata.batchpractice.repository.OrderStatusSummaryRepository;
+import com.playdata.batchpractice.service.AdaptiveWriteThrottle;
+import com.playdata.batchpractice.writer.OrderFanOutWriterFactory;
+import com.playdata.batchpractice.writer.ThrottledItemWriter;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +18,7 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
@@ -20,7 +26,6 @@ import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import javax.sql.DataSource;
@@ -48,7 +53,11 @@ public class ParameterBatchConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
-    private final EntityManager entityManager;
+    private final JfrBatchListener jfrBatchListener;
+    private final OrderCursorSettings orderCursorSettings;
+    private final AdaptiveWriteThrottle adaptiveWriteThrottle;
+    private final OrderFanOutWriterFactory orderFanOutWriterFactory;
+    private final OrderStatusSummaryRepository orderStatusSummaryRepository;
 
 
     // 1. ItemReader
@@ -66,24 +75,26 @@ public class ParameterBatchConfig {
         log.info("처리 조건 - 기간: {} ~ {}, 최소금액: {}", startDate, endDate, minAmount);
 
         String sql = """
-                SELECT id, order_number, customer_name, amount, status, order_date, processed_date
+                SELECT %s
                 FROM orders 
                 WHERE status = 'PENDING'
-                AND DATE(order_date) BETWEEN ? AND ? 
+                AND order_date >= ? AND order_date < ?
                 AND amount >= ?
                 ORDER BY order_date
-                """;
+                """.formatted(OrderRowMapper.COLUMNS);
 
-        return new JdbcCursorItemReaderBuilder<Order>()
+        return orderCursorSettings.apply(new JdbcCursorItemReaderBuilder<Order>())
                 .name("pendingOrderReader")
+                .saveState(false)
                 .dataSource(dataSource)
                 .sql(sql)
                 .preparedStatementSetter(ps -> {
-                    ps.setString(1, startDate);
-                    ps.setString(2, endDate);
-                    ps.setString(3, minAmount);
+                    // DATE(order_date) 대신 범위 조건 사용 (order_date 인덱스 활용 가능)
+                    ps.setObject(1, LocalDate.parse(startDate).atStartOfDay());
+                    ps.setObject(2, LocalDate.parse(endDate).plusDays(1).atStartOfDay());
+                    ps.setInt(3, Integer.parseInt(minAmount));
                 })
-                .rowMapper(new BeanPropertyRowMapper<>(Order.class))
+                .rowMapper(new OrderRowMapper())
                 .build();
     }
 
@@ -124,7 +135,7 @@ public class ParameterBatchConfig {
 
     // 3. ItemWriter - 기존과 동일하게 유지
     @Bean
-    public JdbcBatchItemWriter<Order> parameterWriter() {
+    public ItemWriter<Order> parameterWriter() {
         JdbcBatchItemWriter<Order> writer = new JdbcBatchItemWriter<>();
         writer.setDataSource(dataSource);
         writer.setSql("""
@@ -140,7 +151,8 @@ public class ParameterBatchConfig {
         });
 
         writer.afterPropertiesSet();
-        return writer;
+        ItemWriter<Order> fanOutWriter = orderFanOutWriterFactory.create(writer);
+        return new ThrottledItemWriter<>(fanOutWriter, adaptiveWriteThrottle);
     }
 
     /*
@@ -165,16 +177,9 @@ public class ParameterBatchConfig {
             // contribution: step 실행 기여도 정보 (읽은 개수, 처리한 개수, 쓴 개수 등을 제어)
             // chunkContext: 현재 실행중인 컨텍스트 정보 (step 실행 정보, job 실행 정보)
             // Tasklet 에서 실행할 내용
-            String countQuery = """
-            SELECT COUNT(o) FROM Order o
-            WHERE o.status = 'PENDING'
-            AND DATE(o.orderDate) BETWEEN :startDate AND :endDate
-            """;
-
-            Long pendingCount = entityManager.createQuery(countQuery, Long.class)
-                    .setParameter("startDate", LocalDate.parse(startDate))
-                    .setParameter("endDate", LocalDate.parse(endDate))
-                    .getSingleResult();
+            // orders 전체 COUNT 대신 일자별 집계 테이블에서 조회 (O(일수))
+            Long pendingCount = orderStatusSummaryRepository.sumOrderCount(
+                    Order.OrderStatus.PENDING, LocalDate.parse(startDate), LocalDate.parse(endDate));
 
             log.info("===  배치 처리 전 현황 ===");
             log.info("처리 대상 기간: {} ~ {}", startDate, endDate);
@@ -193,6 +198,7 @@ public class ParameterBatchConfig {
     public Step beforeParameterStep() {
         return new StepBuilder("beforeParameterStep", jobRepository)
                 .tasklet(beforeTasklet(null, null), transactionManager)
+                .listener(jfrBatchListener)
                 .build();
     }
 
@@ -204,6 +210,7 @@ public class ParameterBatchConfig {
                 .reader(parameterOrderReader(null, null, null))
                 .processor(parameterProcessor(null))
                 .writer(parameterWriter())
+                .listener(jfrBatchListener)
                 .build();
     }
 
@@ -211,6 +218,7 @@ public class ParameterBatchConfig {
     @Bean
     public Job parameterJob() {
         return new JobBuilder("parameterJob", jobRepository)
+                .listener(jfrBatchListener)
                 .start(beforeParameterStep())
                 .next(parameterProcessStep())
                 .build();
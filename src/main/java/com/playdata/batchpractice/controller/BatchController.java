@@ -1,12 +1,18 @@
 package com.playdata.batchpractice.controller;
 
+import com.playdata.batchpractice.service.AdaptiveWriteThrottle;
+import com.playdata.batchpractice.service.JobLaunchCoordinator;
 import com.playdata.batchpractice.service.OrderTestDataService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.*;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -15,11 +21,14 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class BatchController {
 
-    private final JobLauncher jobLauncher; // 배치 잡 실행기
+    private final JobLaunchCoordinator jobLaunchCoordinator; // 배치 잡 실행기 (동시 실행 요청 병합)
     private final Job csvToDbJob; // 직접 작성한 배치 작업 (빈등록 해놓음)
     private final Job orderProcessJob; // Order쪽 빈 등록된
     private final Job faultTolerantJob;
+    private final Job orderSummaryReconcileJob;
+    private final Job orderArchiveJob;
     private final OrderTestDataService orderTestDataService;
+    private final AdaptiveWriteThrottle adaptiveWriteThrottle;
 
     @PostMapping("/csv-to-db")
     public String runCsvToDbJob() {
@@ -31,7 +40,7 @@ public class BatchController {
                     .toJobParameters();
 
             log.info(" ========== CSV To Database 배치 작업 시작! =========");
-            JobExecution jobExecution = jobLauncher.run(csvToDbJob, jobParameters);
+            JobExecution jobExecution = jobLaunchCoordinator.launch(csvToDbJob, jobParameters);
             log.info(" ========== 배치 완료! 상태: {} =========", jobExecution.getStatus());
 
             return String.format("배치 실행 완료! 상태: %s, 처리된 아이템 수: %d",
@@ -59,7 +68,7 @@ public class BatchController {
                     .toJobParameters();
 
             log.info(" ========== 주문 처리 배치 작업 시작! =========");
-            JobExecution jobExecution = jobLauncher.run(orderProcessJob, jobParameters);
+            JobExecution jobExecution = jobLaunchCoordinator.launch(orderProcessJob, jobParameters);
             log.info(" ========== 배치 완료! 상태: {} =========", jobExecution.getStatus());
 
             return String.format("배치 실행 완료! 상태: %s, 처리된 아이템 수: %d",
@@ -80,7 +89,7 @@ public class BatchController {
                     .toJobParameters();
 
             log.info(" ========== 예외 처리 배치 작업 시작! =========");
-            JobExecution jobExecution = jobLauncher.run(faultTolerantJob, jobParameters);
+            JobExecution jobExecution = jobLaunchCoordinator.launch(faultTolerantJob, jobParameters);
             log.info(" ========== 배치 완료! 상태: {} =========", jobExecution.getStatus());
 
             return String.format("배치 실행 완료! 상태: %s, 처리된 아이템 수: %d건, Skip: %d건",
@@ -94,5 +103,86 @@ public class BatchController {
         }
     }
 
+    // 주문 상태 집계 테이블을 orders 기준으로 다시 계산
+    @PostMapping("/reconcile-summary")
+    public String reconcileSummary() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution jobExecution = jobLaunchCoordinator.launch(orderSummaryReconcileJob, jobParameters);
+            return String.format("집계 재계산 완료! 상태: %s, 집계 행 수: %d",
+                    jobExecution.getStatus(),
+                    jobExecution.getStepExecutions().iterator().next().getWriteCount());
+
+        } catch (Exception e) {
+            log.error("배치 실행 중 오류 발생!", e);
+            return "배치 실행 실패!: " + e.getMessage();
+        }
+    }
+
+    // 오래된 완료/취소 주문을 orders_archive 로 이동
+    // 같은 날 같은 retentionDays 로 다시 호출하면 실패한 실행을 마지막 보관 id 다음부터 재시작
+    @PostMapping("/archive-orders")
+    public String archiveOrders(
+            @RequestParam(defaultValue = "30") Long retentionDays,
+            @RequestParam(defaultValue = "1000") Long batchSize,
+            @RequestParam(defaultValue = "200") Long pauseMillis
+    ) {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addString("runDate", LocalDate.now().toString())
+                    .addLong("retentionDays", retentionDays)
+                    // 재시작할 때 바꿀 수 있도록 식별 파라미터에서 제외
+                    .addLong("batchSize", batchSize, false)
+                    .addLong("pauseMillis", pauseMillis, false)
+                    .toJobParameters();
+
+            log.info(" ========== 주문 보관 배치 작업 시작! =========");
+            JobExecution jobExecution = jobLaunchCoordinator.launch(orderArchiveJob, jobParameters);
+            log.info(" ========== 배치 완료! 상태: {} =========", jobExecution.getStatus());
+
+            return String.format("배치 실행 완료! 상태: %s, 보관된 주문 수: %d",
+                    jobExecution.getStatus(),
+                    jobExecution.getStepExecutions().iterator().next().getWriteCount());
+
+        } catch (Exception e) {
+            log.error("배치 실행 중 오류 발생!", e);
+            return "배치 실행 실패!: " + e.getMessage();
+        }
+    }
+
+    // 잡 실행 요청 중 실제 실행 / 기존 실행에 합류(병합)된 횟수
+    @GetMapping("/launch-stats")
+    public String launchStats() {
+        return String.format("실행: %d건, 병합: %d건",
+                jobLaunchCoordinator.getLaunchedCount(),
+                jobLaunchCoordinator.getCoalescedCount());
+    }
+
+    // 주문 Writer 쓰기 속도 제한 현황
+    @GetMapping("/throttle")
+    public String throttle() {
+        return adaptiveWriteThrottle.describe();
+    }
+
+    // 실행 중에 쓰기 속도 제한 변경 (넘긴 값만 반영)
+    @PutMapping("/throttle")
+    public ResponseEntity<String> updateThrottle(
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) Double rowsPerSecond,
+            @RequestParam(required = false) Double minRowsPerSecond,
+            @RequestParam(required = false) Double maxRowsPerSecond,
+            @RequestParam(required = false) Double targetLatencyMs
+    ) {
+        try {
+            adaptiveWriteThrottle.update(enabled, rowsPerSecond, minRowsPerSecond, maxRowsPerSecond, targetLatencyMs);
+            return ResponseEntity.ok(adaptiveWriteThrottle.describe());
+        } catch (IllegalArgumentException e) {
+            // 잘못된 값은 반영하지 않고 400
+            return ResponseEntity.badRequest().body("설정 변경 실패: " + e.getMessage());
+        }
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.playdata.batchpractice.controller;
+
+import com.playdata.batchpractice.service.JfrRecordingService;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/jfr")
+@RequiredArgsConstructor
+@Slf4j
+public class JfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    // 예) POST /jfr/start?settings=profile&durationSeconds=300
+    @PostMapping("/start")
+    public String start(
+            @RequestParam(defaultValue = "profile") String settings,
+            @RequestParam(defaultValue = "600") long durationSeconds
+    ) {
+        try {
+            return jfrRecordingService.start(settings, Duration.ofSeconds(durationSeconds));
+        } catch (Exception e) {
+            log.error("JFR 기록 시작 실패!", e);
+            return "JFR 기록 시작 실패!: " + e.getMessage();
+        }
+    }
+
+    @PostMapping("/stop")
+    public String stop() {
+        return jfrRecordingService.stop();
+    }
+}
@@ -0,0 +1,49 @@
+package com.playdata.batchpractice.controller;
+
+import com.playdata.batchpractice.entity.OrderStatusSummary;
+import com.playdata.batchpractice.repository.OrderStatusSummaryRepository;
+import com.playdata.batchpractice.service.OrderStatusCache;
+import com.playdata.batchpractice.service.OrderStatusCache.CachedStatus;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/orders")
+@RequiredArgsConstructor
+public class OrderController {
+
+    private final OrderStatusSummaryRepository orderStatusSummaryRepository;
+    private final OrderStatusCache orderStatusCache;
+
+    // 일자별, 상태별 주문 수 (기본: 최근 7일)
+    @GetMapping("/summary")
+    public List<OrderStatusSummary> summary(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(7);
+        return orderStatusSummaryRepository.findByOrderDayBetweenOrderByOrderDayAscStatusAsc(start, end);
+    }
+
+    // 주문 상태 조회 (캐시 우선, 없으면 DB), 없는 주문번호는 404
+    @GetMapping("/{orderNumber}/status")
+    public ResponseEntity<CachedStatus> status(@PathVariable String orderNumber) {
+        CachedStatus status = orderStatusCache.get(orderNumber);
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.notFound().build();
+    }
+
+    // 주문 상태 캐시 적중률, 크기, 대략적인 메모리 사용량
+    @GetMapping("/status-cache")
+    public OrderStatusCache.Stats statusCacheStats() {
+        return orderStatusCache.stats();
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -19,7 +20,12 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+// PENDING 조회 + order_date 정렬을 인덱스로 처리 (정렬용 임시 결과 없이 커서 스트리밍 가능)
+// 주문번호 조회(주문 상태 API 의 캐시 미스)는 유니크 인덱스로 처리
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_status_order_date", columnList = "status, order_date"),
+        @Index(name = "uk_orders_order_number", columnList = "order_number", unique = true)
+})
 public class Order {
 
     @Id
@@ -0,0 +1,47 @@
+package com.playdata.batchpractice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 처리가 끝난(COMPLETED, CANCELLED) 오래된 주문 보관용 테이블, id 는 orders 의 id 그대로 사용
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "orders_archive")
+public class OrderArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String orderNumber;
+
+    @Column(nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private Integer amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime orderDate;
+
+    private LocalDateTime processedDate;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedDate;
+}
@@ -0,0 +1,47 @@
+package com.playdata.batchpractice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 주문 상태 변경 이력
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_history", indexes = @Index(name = "idx_order_history_order_id", columnList = "order_id"))
+public class OrderHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String orderNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus toStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
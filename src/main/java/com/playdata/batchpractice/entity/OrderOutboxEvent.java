@@ -0,0 +1,42 @@
+package com.playdata.batchpractice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 다른 서비스로 보낼 이벤트 (주문 변경과 같은 트랜잭션에서 저장, 발행은 별도 프로세스가 담당)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_outbox", indexes = @Index(name = "idx_order_outbox_published_at", columnList = "published_at"))
+public class OrderOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, length = 1000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
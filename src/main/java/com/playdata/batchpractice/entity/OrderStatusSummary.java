@@ -0,0 +1,42 @@
+package com.playdata.batchpractice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+// 일자별, 상태별 주문 수 (orders 전체를 COUNT 하지 않기 위한 집계 테이블)
+@Getter @Setter @ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_status_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_order_status_summary_day_status",
+                columnNames = {"order_day", "status"}))
+public class OrderStatusSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate orderDay;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Order.OrderStatus status;
+
+    @Column(nullable = false)
+    private Long orderCount;
+}
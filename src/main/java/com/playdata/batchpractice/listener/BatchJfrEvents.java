@@ -0,0 +1,129 @@
+package com.playdata.batchpractice.listener;
+
+import java.util.List;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+====================================
+      배치 JFR(Java Flight Recorder) 이벤트
+====================================
+
+JFR 로 CPU, 할당, 락 프로파일을 뜰 때 어떤 잡/스텝/청크에서 일어난 일인지 맞춰볼 수 있도록
+배치 구조를 이벤트로 남긴다. (JDK Mission Control 의 "Batch" 카테고리에서 확인)
+Job, Step, ChunkCommit 은 시작~끝 구간(duration)을 가진 이벤트.
+*/
+
+public final class BatchJfrEvents {
+
+    public static final List<Class<? extends Event>> ALL = List.of(
+            JobEvent.class, StepEvent.class, ChunkCommitEvent.class,
+            ChunkRollbackEvent.class, RetryEvent.class, SkipEvent.class);
+
+    private BatchJfrEvents() {
+    }
+
+    @Name("com.playdata.batch.Job")
+    @Label("Batch Job")
+    @Category("Batch")
+    public static class JobEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Job Execution Id")
+        public long jobExecutionId;
+
+        @Label("Status")
+        public String status;
+    }
+
+    @Name("com.playdata.batch.Step")
+    @Label("Batch Step")
+    @Category("Batch")
+    public static class StepEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Step Name")
+        public String stepName;
+
+        @Label("Status")
+        public String status;
+
+        @Label("Read Count")
+        public long readCount;
+
+        @Label("Write Count")
+        public long writeCount;
+
+        @Label("Commit Count")
+        public long commitCount;
+    }
+
+    @Name("com.playdata.batch.ChunkCommit")
+    @Label("Chunk Commit")
+    @Category("Batch")
+    public static class ChunkCommitEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Step Name")
+        public String stepName;
+
+        @Label("Item Count")
+        @Description("이번 청크에서 쓴 아이템 수")
+        public long itemCount;
+    }
+
+    @Name("com.playdata.batch.ChunkRollback")
+    @Label("Chunk Rollback")
+    @Category("Batch")
+    public static class ChunkRollbackEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Step Name")
+        public String stepName;
+
+        @Label("Exception")
+        public String exception;
+    }
+
+    @Name("com.playdata.batch.Retry")
+    @Label("Item Retry")
+    @Category("Batch")
+    public static class RetryEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Step Name")
+        public String stepName;
+
+        @Label("Attempt")
+        public int attempt;
+
+        @Label("Exception")
+        public String exception;
+    }
+
+    @Name("com.playdata.batch.Skip")
+    @Label("Item Skip")
+    @Category("Batch")
+    public static class SkipEvent extends Event {
+        @Label("Job Name")
+        public String jobName;
+
+        @Label("Step Name")
+        public String stepName;
+
+        @Label("Phase")
+        @Description("READ, PROCESS, WRITE")
+        public String phase;
+
+        @Label("Exception")
+        public String exception;
+    }
+}
@@ -0,0 +1,179 @@
+package com.playdata.batchpractice.listener;
+
+import com.playdata.batchpractice.listener.BatchJfrEvents.ChunkCommitEvent;
+import com.playdata.batchpractice.listener.BatchJfrEvents.ChunkRollbackEvent;
+import com.playdata.batchpractice.listener.BatchJfrEvents.JobEvent;
+import com.playdata.batchpractice.listener.BatchJfrEvents.RetryEvent;
+import com.playdata.batchpractice.listener.BatchJfrEvents.SkipEvent;
+import com.playdata.batchpractice.listener.BatchJfrEvents.StepEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterChunk;
+import org.springframework.batch.core.annotation.AfterChunkError;
+import org.springframework.batch.core.annotation.AfterJob;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeChunk;
+import org.springframework.batch.core.annotation.BeforeJob;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.annotation.OnSkipInProcess;
+import org.springframework.batch.core.annotation.OnSkipInRead;
+import org.springframework.batch.core.annotation.OnSkipInWrite;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+/*
+ 잡/스텝/청크 생명주기를 JFR 이벤트로 남기는 리스너
+ - 인터페이스 대신 어노테이션 방식이라 JobBuilder, StepBuilder 어디든 .listener(jfrBatchListener) 한 줄로 등록
+ - faultTolerant step 은 재시도 이벤트를 위해 .listener(jfrBatchListener.retryListener()) 도 등록
+*/
+@Component
+public class JfrBatchListener {
+
+    // 시작 시점에 begin() 한 이벤트를 끝날 때 commit() 하기 위해 실행 id 별로 보관
+    private final Map<Long, JobEvent> jobEvents = new ConcurrentHashMap<>();
+    private final Map<Long, StepEvent> stepEvents = new ConcurrentHashMap<>();
+    private final Map<Long, ChunkCommitEvent> chunkEvents = new ConcurrentHashMap<>();
+    private final Map<Long, Long> chunkStartWriteCounts = new ConcurrentHashMap<>();
+
+    @BeforeJob
+    public void beforeJob(JobExecution jobExecution) {
+        JobEvent event = new JobEvent();
+        event.begin();
+        jobEvents.put(jobExecution.getId(), event);
+    }
+
+    @AfterJob
+    public void afterJob(JobExecution jobExecution) {
+        JobEvent event = jobEvents.remove(jobExecution.getId());
+        if (event == null) {
+            return;
+        }
+        event.jobName = jobExecution.getJobInstance().getJobName();
+        event.jobExecutionId = jobExecution.getId();
+        event.status = jobExecution.getStatus().name();
+        event.commit();
+    }
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        StepEvent event = new StepEvent();
+        event.begin();
+        stepEvents.put(stepExecution.getId(), event);
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StepEvent event = stepEvents.remove(stepExecution.getId());
+        if (event != null) {
+            event.jobName = jobName(stepExecution);
+            event.stepName = stepExecution.getStepName();
+            event.status = stepExecution.getStatus().name();
+            event.readCount = stepExecution.getReadCount();
+            event.writeCount = stepExecution.getWriteCount();
+            event.commitCount = stepExecution.getCommitCount();
+            event.commit();
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    @BeforeChunk
+    public void beforeChunk(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ChunkCommitEvent event = new ChunkCommitEvent();
+        event.begin();
+        chunkEvents.put(stepExecution.getId(), event);
+        chunkStartWriteCounts.put(stepExecution.getId(), stepExecution.getWriteCount());
+    }
+
+    @AfterChunk
+    public void afterChunk(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ChunkCommitEvent event = chunkEvents.remove(stepExecution.getId());
+        Long startWriteCount = chunkStartWriteCounts.remove(stepExecution.getId());
+        if (event == null) {
+            return;
+        }
+        event.jobName = jobName(stepExecution);
+        event.stepName = stepExecution.getStepName();
+        event.itemCount = stepExecution.getWriteCount() - (startWriteCount != null ? startWriteCount : 0);
+        event.commit();
+    }
+
+    @AfterChunkError
+    public void afterChunkError(ChunkContext chunkContext) {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        chunkEvents.remove(stepExecution.getId());
+        chunkStartWriteCounts.remove(stepExecution.getId());
+
+        ChunkRollbackEvent event = new ChunkRollbackEvent();
+        event.jobName = jobName(stepExecution);
+        event.stepName = stepExecution.getStepName();
+        event.exception = describe(chunkContext.getAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY));
+        event.commit();
+    }
+
+    @OnSkipInRead
+    public void onSkipInRead(Throwable t) {
+        skip("READ", t);
+    }
+
+    @OnSkipInProcess
+    public void onSkipInProcess(Object item, Throwable t) {
+        skip("PROCESS", t);
+    }
+
+    @OnSkipInWrite
+    public void onSkipInWrite(Object item, Throwable t) {
+        skip("WRITE", t);
+    }
+
+    public RetryListener retryListener() {
+        return new RetryListener() {
+            @Override
+            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                         Throwable throwable) {
+                RetryEvent event = new RetryEvent();
+                StepContext stepContext = StepSynchronizationManager.getContext();
+                if (stepContext != null) {
+                    event.jobName = stepContext.getJobName();
+                    event.stepName = stepContext.getStepName();
+                }
+                event.attempt = context.getRetryCount();
+                event.exception = describe(throwable);
+                event.commit();
+            }
+        };
+    }
+
+    private void skip(String phase, Throwable t) {
+        SkipEvent event = new SkipEvent();
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            event.jobName = stepContext.getJobName();
+            event.stepName = stepContext.getStepName();
+        }
+        event.phase = phase;
+        event.exception = describe(t);
+        event.commit();
+    }
+
+    private String jobName(StepExecution stepExecution) {
+        return stepExecution.getJobExecution().getJobInstance().getJobName();
+    }
+
+    private String describe(Object throwable) {
+        if (throwable instanceof Throwable t) {
+            return t.getClass().getSimpleName() + ": " + t.getMessage();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.playdata.batchpractice.reader;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.RowMapper;
+
+/*
+====================================
+       주문 RowMapper (컬럼 순서 기반)
+====================================
+
+BeanPropertyRowMapper 는 행마다 컬럼 이름 -> 필드 이름(snake_case 변환)을 찾고 리플렉션으로 setter 를 호출한다.
+주문 Reader 들은 항상 같은 컬럼을 같은 순서로 읽으므로 인덱스로 바로 꺼내서 채운다.
+
+SELECT 컬럼 순서: id, order_number, customer_name, amount, status, order_date, processed_date
+순서가 어긋나지 않도록 이 매퍼를 쓰는 쿼리는 컬럼 목록을 직접 쓰지 않고 COLUMNS 로 만든다.
+*/
+
+public class OrderRowMapper implements RowMapper<Order> {
+
+    public static final String COLUMNS = "id, order_number, customer_name, amount, status, order_date, processed_date";
+
+    @Override
+    public Order mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Order order = new Order();
+        order.setId(rs.getLong(1));
+        order.setOrderNumber(rs.getString(2));
+        order.setCustomerName(rs.getString(3));
+        order.setAmount(rs.getInt(4));
+        order.setStatus(OrderStatus.valueOf(rs.getString(5)));
+        order.setOrderDate(rs.getObject(6, LocalDateTime.class));
+        order.setProcessedDate(rs.getObject(7, LocalDateTime.class));
+        return order;
+    }
+}
@@ -1,8 +1,12 @@
 package com.playdata.batchpractice.repository;
 
 import com.playdata.batchpractice.entity.Order;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    // 주문 상태 캐시에 없는 주문번호를 한 번에 조회
+    List<Order> findByOrderNumberIn(Collection<String> orderNumbers);
 }
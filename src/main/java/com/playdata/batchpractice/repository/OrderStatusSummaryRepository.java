@@ -0,0 +1,23 @@
+package com.playdata.batchpractice.repository;
+
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import com.playdata.batchpractice.entity.OrderStatusSummary;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OrderStatusSummaryRepository extends JpaRepository<OrderStatusSummary, Long> {
+
+    List<OrderStatusSummary> findByOrderDayBetweenOrderByOrderDayAscStatusAsc(LocalDate startDate, LocalDate endDate);
+
+    @Query("""
+            SELECT COALESCE(SUM(s.orderCount), 0) FROM OrderStatusSummary s
+            WHERE s.status = :status
+            AND s.orderDay BETWEEN :startDate AND :endDate
+            """)
+    Long sumOrderCount(@Param("status") OrderStatus status,
+                       @Param("startDate") LocalDate startDate,
+                       @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,149 @@
+package com.playdata.batchpractice.runner;
+
+import com.playdata.batchpractice.BatchPracticeApplication;
+import com.playdata.batchpractice.service.JobLaunchCoordinator;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.converter.DefaultJobParametersConverter;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/*
+====================================
+      Headless 단발 실행 (cron 용)
+====================================
+
+웹 서버 없이 잡 하나만 실행하고 종료 코드를 돌려준다.
+- 서블릿 컨테이너 없이 시작 (WebApplicationType.NONE)
+- 모든 빈을 lazy 로 두고 지정한 잡 빈에서부터 필요한 빈만 생성
+- 스케줄러, 마이크로 배치 drainer 는 끔
+
+사용 예)
+java -jar batch-practice.jar --job=parameterJob startDate=2024-01-01 endDate=2024-01-07 minAmount=7000 processingMode=FAST
+java -jar batch-practice.jar --job=orderArchiveJob --no-timestamp runDate=2024-01-08 retentionDays=30,java.lang.Long ...
+
+- --job=빈 이름 (예: faultTolerantJob), key=value 는 JobParameter (value,type,identifying 형식 지원)
+- 기본으로 timestamp 파라미터를 추가해서 매번 새 실행, 실패한 실행을 재시작하려면 --no-timestamp
+- 그 밖의 --옵션은 Spring 설정으로 전달 (예: --spring.datasource.url=...)
+- --cds-training: CDS 아카이브 학습 실행. 지정한 잡과 step/reader/writer 빈까지 만든 뒤 실행하지 않고 종료
+
+종료 코드: 0 완료, 1 실패, 2 잘못된 잡 이름
+*/
+
+@Slf4j
+public final class HeadlessJobRunner {
+
+    private static final String JOB_OPTION = "--job=";
+    private static final String NO_TIMESTAMP_OPTION = "--no-timestamp";
+    private static final String CDS_TRAINING_OPTION = "--cds-training";
+
+    private HeadlessJobRunner() {
+    }
+
+    public static boolean isRequested(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(JOB_OPTION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static int run(String[] args) {
+        long launchMillis = System.currentTimeMillis();
+
+        String jobName = null;
+        boolean addTimestamp = true;
+        boolean cdsTraining = false;
+        Properties jobProperties = new Properties();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith(JOB_OPTION)) {
+                jobName = arg.substring(JOB_OPTION.length());
+            } else if (arg.equals(NO_TIMESTAMP_OPTION)) {
+                addTimestamp = false;
+            } else if (arg.equals(CDS_TRAINING_OPTION)) {
+                cdsTraining = true;
+            } else if (arg.startsWith("--")) {
+                springArgs.add(arg);
+            } else if (arg.contains("=")) {
+                int idx = arg.indexOf('=');
+                jobProperties.setProperty(arg.substring(0, idx), arg.substring(idx + 1));
+            }
+        }
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BatchPracticeApplication.class)
+                .web(WebApplicationType.NONE)
+                .lazyInitialization(true)
+                .properties(
+                        "batch.scheduler.enabled=false",
+                        "batch.micro-batch.enabled=false",
+                        // 지정한 잡 하나만 실행 (집계 초기 재계산 잡이 끼어들어 실행 시간, 종료 코드가 섞이지 않게)
+                        "batch.summary.backfill-on-startup=false"
+                )
+                .run(springArgs.toArray(String[]::new));
+
+        if (cdsTraining) {
+            return exitAfterTraining(context, jobName);
+        }
+
+        long readyMillis = System.currentTimeMillis();
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        log.info("headless 시작 완료 - JVM 시작부터 {}ms (Spring 컨텍스트 {}ms)",
+                readyMillis - jvmStartMillis, readyMillis - launchMillis);
+
+        int exitCode;
+        try {
+            Job job = context.getBean(jobName, Job.class);
+
+            JobParametersBuilder builder = new JobParametersBuilder(
+                    new DefaultJobParametersConverter().getJobParameters(jobProperties));
+            if (addTimestamp) {
+                builder.addLong("timestamp", System.currentTimeMillis());
+            }
+            JobParameters jobParameters = builder.toJobParameters();
+
+            // 서버에서 도는 같은 잡과 겹치지 않도록 coordinator 를 통해 실행
+            JobExecution execution = context.getBean(JobLaunchCoordinator.class).launch(job, jobParameters);
+            log.info("headless 잡 종료: {} - {} (총 {}ms)", job.getName(), execution.getStatus(),
+                    System.currentTimeMillis() - jvmStartMillis);
+            exitCode = execution.getStatus() == BatchStatus.COMPLETED ? 0 : 1;
+        } catch (NoSuchBeanDefinitionException e) {
+            log.error("잡을 찾을 수 없습니다: {}", jobName);
+            exitCode = 2;
+        } catch (Exception e) {
+            log.error("headless 잡 실행 실패!", e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        return SpringApplication.exit(context, () -> code);
+    }
+
+    // lazy 라서 컨텍스트만 띄우면 잡 관련 클래스가 하나도 로드되지 않으므로,
+    // 잡 빈을 꺼내서 step, reader, processor, writer 빈까지 만든 뒤 실행 없이 종료
+    private static int exitAfterTraining(ConfigurableApplicationContext context, String jobName) {
+        int code;
+        try {
+            Job job = context.getBean(jobName, Job.class);
+            log.info("CDS 학습 실행 - {} 관련 빈 생성 완료, 실행 없이 종료", job.getName());
+            code = 0;
+        } catch (NoSuchBeanDefinitionException e) {
+            log.error("잡을 찾을 수 없습니다: {}", jobName);
+            code = 2;
+        }
+        int exitCode = code;
+        return SpringApplication.exit(context, () -> exitCode);
+    }
+}
@@ -1,5 +1,6 @@
 package com.playdata.batchpractice.scheduler;
 
+import com.playdata.batchpractice.service.JobLaunchCoordinator;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,23 +9,26 @@ import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @Configuration
 @EnableScheduling
+// batch.scheduler.enabled=false 이면 스케줄 실행 안 함 (벤치마크, 단발 실행 등)
+@ConditionalOnProperty(name = "batch.scheduler.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class BatchScheduler {
 
-    private final JobLauncher jobLauncher;
+    private final JobLaunchCoordinator jobLaunchCoordinator; // API 와 동시에 실행되면 하나로 병합
     private final Job orderProcessJob; // 2단계 기본 주문 잡
     private final Job parameterJob; // 4단계 파라미터 잡
+    private final Job orderSummaryReconcileJob; // 주문 집계 재계산 잡
 
     /*
     ====================
@@ -50,11 +54,26 @@ public class BatchScheduler {
                     .addLong("timestamp", System.currentTimeMillis())
                     .toJobParameters();
 
-            JobExecution jobExecution = jobLauncher.run(parameterJob, params);
+            JobExecution jobExecution = jobLaunchCoordinator.launch(parameterJob, params);
             log.info("job done!: {}", jobExecution.getStatus());
         } catch (Exception e) {
             log.error(e.getMessage());
         }
     }
 
+    // 매일 새벽 3시 주문 집계 테이블 drift 복구
+    @Scheduled(cron = "0 0 3 * * *")
+    public void reconcileOrderSummary() {
+        try {
+            JobParameters params = new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            JobExecution jobExecution = jobLaunchCoordinator.launch(orderSummaryReconcileJob, params);
+            log.info("summary reconcile done!: {}", jobExecution.getStatus());
+        } catch (Exception e) {
+            log.error(e.getMessage());
+        }
+    }
+
 }
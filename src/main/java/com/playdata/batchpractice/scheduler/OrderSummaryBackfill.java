@@ -0,0 +1,46 @@
+package com.playdata.batchpractice.scheduler;
+
+import com.playdata.batchpractice.service.JobLaunchCoordinator;
+import com.playdata.batchpractice.service.OrderStatusSummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 이미 주문이 있는 DB 에서 처음 시작하면 집계 테이블이 비어 있으므로, 시작 시점에 한 번 재계산
+// (새벽 3시 재계산까지 집계가 0 으로 보이지 않도록)
+@Component
+@ConditionalOnProperty(name = "batch.summary.backfill-on-startup", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryBackfill {
+
+    private final JobLaunchCoordinator jobLaunchCoordinator;
+    private final OrderStatusSummaryService orderStatusSummaryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Job orderSummaryReconcileJob;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            boolean hasOrders = !jdbcTemplate.queryForList("SELECT id FROM orders LIMIT 1", Long.class).isEmpty();
+            if (!hasOrders || !orderStatusSummaryService.isEmpty()) {
+                return;
+            }
+
+            log.info("주문 집계 테이블이 비어 있음 - 재계산 실행");
+            JobExecution jobExecution = jobLaunchCoordinator.launch(orderSummaryReconcileJob, new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters());
+            log.info("summary backfill done!: {}", jobExecution.getStatus());
+        } catch (Exception e) {
+            log.error("주문 집계 초기 재계산 실패", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.playdata.batchpractice.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+====================================
+       주문 쓰기 속도 제한 (적응형)
+====================================
+
+orders 테이블은 실시간 트래픽도 같이 쓰기 때문에, 배치가 몰아서 UPDATE 하면 서비스 응답이 느려진다.
+- 토큰 버킷: 초당 rowsPerSecond 행까지만 쓰기 허용 (모자라면 대기)
+- 적응: 청크 쓰기에 걸린 행당 시간(락 대기 포함)이 목표보다 길면 속도를 줄이고,
+        목표의 절반보다 짧으면(DB 한가) 조금씩 올린다. (min ~ max 범위 안에서)
+- 설정은 PUT /batch/throttle 로 실행 중에 변경 가능
+*/
+
+@Service
+@Slf4j
+public class AdaptiveWriteThrottle {
+
+    private static final double DECREASE_FACTOR = 0.7;
+    private static final double INCREASE_FACTOR = 1.1;
+
+    private volatile boolean enabled;
+    private volatile double minRowsPerSecond;
+    private volatile double maxRowsPerSecond;
+    private volatile double targetLatencyMillis;
+
+    private double rowsPerSecond;
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    private final AtomicLong totalThrottledNanos = new AtomicLong();
+
+    public AdaptiveWriteThrottle(
+            @Value("${batch.throttle.enabled:true}") boolean enabled,
+            @Value("${batch.throttle.rows-per-second:500}") double rowsPerSecond,
+            @Value("${batch.throttle.min-rows-per-second:50}") double minRowsPerSecond,
+            @Value("${batch.throttle.max-rows-per-second:5000}") double maxRowsPerSecond,
+            @Value("${batch.throttle.target-latency-ms:5}") double targetLatencyMillis
+    ) {
+        validate(rowsPerSecond, minRowsPerSecond, maxRowsPerSecond, targetLatencyMillis);
+        this.enabled = enabled;
+        this.rowsPerSecond = rowsPerSecond;
+        this.minRowsPerSecond = minRowsPerSecond;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.tokens = rowsPerSecond;
+    }
+
+    /**
+     * rows 만큼 토큰을 가져간다. 모자라면 채워질 때까지 대기하고, 대기한 시간(ns)을 반환.
+     * 토큰이 음수(빚)가 될 수 있어서 청크가 버킷보다 커도 멈추지 않는다.
+     */
+    public long acquire(int rows) throws InterruptedException {
+        if (!enabled || rows <= 0) {
+            return 0;
+        }
+        long waitNanos;
+        synchronized (this) {
+            refill();
+            tokens -= rows;
+            waitNanos = tokens >= 0 ? 0 : (long) (-tokens / rowsPerSecond * 1_000_000_000L);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            totalThrottledNanos.addAndGet(waitNanos);
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 청크 쓰기 결과(행 수, 걸린 시간)로 속도를 조정
+     */
+    public synchronized void recordWrite(int rows, long elapsedNanos) {
+        if (!enabled || rows <= 0) {
+            return;
+        }
+        double latencyMillis = elapsedNanos / 1_000_000.0 / rows;
+        double previous = rowsPerSecond;
+        if (latencyMillis > targetLatencyMillis) {
+            rowsPerSecond = Math.max(minRowsPerSecond, rowsPerSecond * DECREASE_FACTOR);
+        } else if (latencyMillis < targetLatencyMillis / 2) {
+            rowsPerSecond = Math.min(maxRowsPerSecond, rowsPerSecond * INCREASE_FACTOR);
+        }
+        if (rowsPerSecond != previous) {
+            log.debug("쓰기 속도 조정: {} -> {} rows/s (행당 {}ms)",
+                    Math.round(previous), Math.round(rowsPerSecond), String.format("%.2f", latencyMillis));
+        }
+    }
+
+    /**
+     * 넘긴 값만 반영. 속도/목표 시간은 0 보다 커야 하고 min <= max 여야 하며,
+     * 잘못된 값이면 IllegalArgumentException (아무것도 바뀌지 않음)
+     */
+    public synchronized void update(Boolean enabled, Double rowsPerSecond, Double minRowsPerSecond,
+                                    Double maxRowsPerSecond, Double targetLatencyMillis) {
+        double min = minRowsPerSecond != null ? minRowsPerSecond : this.minRowsPerSecond;
+        double max = maxRowsPerSecond != null ? maxRowsPerSecond : this.maxRowsPerSecond;
+        double target = targetLatencyMillis != null ? targetLatencyMillis : this.targetLatencyMillis;
+        double rate = rowsPerSecond != null ? rowsPerSecond : this.rowsPerSecond;
+        validate(rate, min, max, target);
+
+        if (enabled != null) {
+            this.enabled = enabled;
+        }
+        this.minRowsPerSecond = min;
+        this.maxRowsPerSecond = max;
+        this.targetLatencyMillis = target;
+        this.rowsPerSecond = Math.max(min, Math.min(max, rate));
+        this.tokens = Math.min(this.tokens, this.rowsPerSecond);
+        log.info("쓰기 제한 설정 변경: {}", describe());
+    }
+
+    public synchronized String describe() {
+        return String.format("enabled=%s, rowsPerSecond=%.0f (min %.0f, max %.0f), targetLatency=%.1fms/row, totalThrottled=%dms",
+                enabled, rowsPerSecond, minRowsPerSecond, maxRowsPerSecond, targetLatencyMillis,
+                TimeUnit.NANOSECONDS.toMillis(totalThrottledNanos.get()));
+    }
+
+    // 속도가 0 이면 대기 시간 계산이 0 으로 나누기가 되어 청크 트랜잭션 안에서 무한 대기
+    private static void validate(double rowsPerSecond, double minRowsPerSecond,
+                                 double maxRowsPerSecond, double targetLatencyMillis) {
+        if (!isPositive(rowsPerSecond) || !isPositive(minRowsPerSecond)
+                || !isPositive(maxRowsPerSecond) || !isPositive(targetLatencyMillis)) {
+            throw new IllegalArgumentException("속도와 목표 시간은 0 보다 커야 함");
+        }
+        if (minRowsPerSecond > maxRowsPerSecond) {
+            throw new IllegalArgumentException(String.format(
+                    "minRowsPerSecond(%.0f) 가 maxRowsPerSecond(%.0f) 보다 큼", minRowsPerSecond, maxRowsPerSecond));
+        }
+    }
+
+    private static boolean isPositive(double value) {
+        return Double.isFinite(value) && value > 0;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(rowsPerSecond, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * rowsPerSecond);
+        lastRefillNanos = now;
+    }
+}
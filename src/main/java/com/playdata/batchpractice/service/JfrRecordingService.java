@@ -0,0 +1,74 @@
+package com.playdata.batchpractice.service;
+
+import com.playdata.batchpractice.listener.BatchJfrEvents;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 실행 중인 애플리케이션에서 JFR 기록 시작/종료 (배치 이벤트 + JDK 프로파일 설정)
+@Service
+@Slf4j
+public class JfrRecordingService {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path outputDir;
+    private Recording recording;
+
+    public JfrRecordingService(@Value("${batch.jfr.output-dir:jfr}") String outputDir) {
+        this.outputDir = Path.of(outputDir);
+    }
+
+    /**
+     * @param settings JDK 기본 설정 이름 (default: 오버헤드 낮음, profile: 할당/락 정보 더 많이)
+     * @param maxDuration 이 시간이 지나면 자동으로 종료하고 파일로 저장
+     */
+    public synchronized String start(String settings, Duration maxDuration) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return "이미 기록 중입니다: " + recording.getDestination();
+        }
+        // maxDuration 이 지나 스스로 멈춘 기록은 파일 저장만 끝난 상태라 닫아서 자원 해제
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+
+        Files.createDirectories(outputDir);
+        Path file = outputDir.resolve("batch-" + LocalDateTime.now().format(FILE_TIME) + ".jfr").toAbsolutePath();
+
+        recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName("batch-practice");
+        BatchJfrEvents.ALL.forEach(recording::enable);
+        recording.setDestination(file);
+        recording.setDuration(maxDuration);
+        recording.start();
+
+        log.info("JFR 기록 시작 - 설정: {}, 최대 {}초, 파일: {}", settings, maxDuration.toSeconds(), file);
+        return "JFR 기록 시작: " + file;
+    }
+
+    public synchronized String stop() {
+        if (recording == null) {
+            return "기록 중이 아닙니다.";
+        }
+        Path file = recording.getDestination();
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop(); // destination 으로 저장됨
+        }
+        recording.close();
+        recording = null;
+
+        log.info("JFR 기록 종료 - 파일: {}", file);
+        return "JFR 기록 종료: " + file;
+    }
+}
@@ -0,0 +1,226 @@
+package com.playdata.batchpractice.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+====================================
+       잡 실행 요청 병합 (single-flight)
+====================================
+
+같은 PENDING 주문을 읽는 잡들(orderProcessJob, falutTolerantJob, parameterJob)이
+API 와 스케줄러에서 동시에 실행되면 같은 행을 두고 락 경쟁 + 중복 처리가 생긴다.
+
+- 같은 잡이 같은 파라미터(timestamp 제외)로 이미 실행 중이면 새로 실행하지 않고, 그 JobExecution 의 결과를 같이 받는다.
+- 같은 그룹의 다른 잡(또는 다른 파라미터)은 처리 대상이 다르므로 합류하지 않고,
+  그룹 락을 기다렸다가 이어서 실행한다. (한 그룹에서는 한 번에 하나만 실행)
+- 인스턴스가 여러 대일 때는 MySQL GET_LOCK 으로 그룹 단위 락을 잡고,
+  락을 못 잡으면 JobExplorer 로 다른 인스턴스에서 같은 실행을 찾아 합류하거나, 락이 풀릴 때까지 기다린다.
+*/
+
+@Service
+@Slf4j
+public class JobLaunchCoordinator {
+
+    private static final String PENDING_ORDERS_GROUP = "pending-orders";
+    // 매 실행을 새 JobInstance 로 만들기 위한 파라미터, 같은 실행인지 비교할 때는 제외
+    private static final String TIMESTAMP_PARAMETER = "timestamp";
+
+    // 잡 이름(JobBuilder 에 준 이름) -> 실행 그룹, 목록에 없으면 잡 이름이 곧 그룹
+    private static final Map<String, String> LAUNCH_GROUPS = Map.of(
+            "orderProcessJob", PENDING_ORDERS_GROUP,
+            "falutTolerantJob", PENDING_ORDERS_GROUP,
+            "parameterJob", PENDING_ORDERS_GROUP,
+            // 집계 재계산은 orders 전체를 읽으므로 주문 잡과 겹치지 않게 같은 그룹에서 차례로 실행
+            "orderSummaryReconcileJob", PENDING_ORDERS_GROUP
+    );
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final DataSource dataSource;
+    private final boolean distributedLock;
+    private final long pollMillis;
+    private final long attachTimeoutMillis;
+
+    // 합류 키(잡 이름 + 파라미터) -> 실행 결과
+    private final ConcurrentMap<String, CompletableFuture<JobExecution>> inFlight = new ConcurrentHashMap<>();
+    // 그룹 -> 인스턴스 안에서 그룹 단위로 한 번에 하나만 실행하기 위한 락
+    private final ConcurrentMap<String, ReentrantLock> groupLocks = new ConcurrentHashMap<>();
+    private final AtomicLong launchedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public JobLaunchCoordinator(
+            JobLauncher jobLauncher,
+            JobExplorer jobExplorer,
+            DataSource dataSource,
+            @Value("${batch.launch.distributed-lock:true}") boolean distributedLock,
+            @Value("${batch.launch.poll-ms:1000}") long pollMillis,
+            @Value("${batch.launch.attach-timeout-ms:600000}") long attachTimeoutMillis
+    ) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.dataSource = dataSource;
+        this.distributedLock = distributedLock;
+        this.pollMillis = pollMillis;
+        this.attachTimeoutMillis = attachTimeoutMillis;
+    }
+
+    /**
+     * 같은 잡이 같은 파라미터로 실행 중이면 그 실행에 합류하고, 아니면 그룹 락을 잡은 뒤 새로 실행한다.
+     * 합류한 경우 반환되는 JobExecution 은 먼저 실행된 잡의 것이다.
+     */
+    public JobExecution launch(Job job, JobParameters jobParameters) throws Exception {
+        String group = LAUNCH_GROUPS.getOrDefault(job.getName(), job.getName());
+        String attachKey = attachKey(job.getName(), jobParameters);
+
+        CompletableFuture<JobExecution> mine = new CompletableFuture<>();
+        CompletableFuture<JobExecution> running = inFlight.putIfAbsent(attachKey, mine);
+        if (running != null) {
+            long coalesced = coalescedCount.incrementAndGet();
+            log.info("[{}] 이미 실행 중 - {} 요청을 기존 실행에 합류 (누적 병합: {}건)", group, job.getName(), coalesced);
+            return await(running);
+        }
+
+        ReentrantLock groupLock = groupLocks.computeIfAbsent(group, key -> new ReentrantLock(true));
+        try {
+            groupLock.lockInterruptibly();
+            try {
+                JobExecution execution = launchExclusively(group, job, jobParameters);
+                mine.complete(execution);
+                return execution;
+            } finally {
+                groupLock.unlock();
+            }
+        } catch (Exception e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(attachKey, mine);
+        }
+    }
+
+    public long getLaunchedCount() {
+        return launchedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private JobExecution launchExclusively(String group, Job job, JobParameters jobParameters) throws Exception {
+        if (!distributedLock) {
+            launchedCount.incrementAndGet();
+            return jobLauncher.run(job, jobParameters);
+        }
+
+        // GET_LOCK 은 커넥션(세션) 단위라서 잡이 끝날 때까지 같은 커넥션을 잡고 있어야 함
+        String lockName = "batch-launch:" + group;
+        long deadline = System.currentTimeMillis() + attachTimeoutMillis;
+        try (Connection connection = dataSource.getConnection()) {
+            while (true) {
+                if (tryLock(connection, lockName)) {
+                    try {
+                        launchedCount.incrementAndGet();
+                        return jobLauncher.run(job, jobParameters);
+                    } finally {
+                        unlock(connection, lockName);
+                    }
+                }
+
+                // 다른 인스턴스가 같은 실행 중 -> 그 실행이 끝날 때까지 기다렸다가 결과 공유
+                // 같은 그룹의 다른 잡이면 락이 풀릴 때까지 기다렸다가 실행
+                JobExecution running = findRunning(job.getName(), jobParameters);
+                if (running != null) {
+                    long coalesced = coalescedCount.incrementAndGet();
+                    log.info("[{}] 다른 인스턴스에서 실행 중(executionId={}) - 합류 (누적 병합: {}건)",
+                            group, running.getId(), coalesced);
+                    return waitForCompletion(running.getId(), deadline);
+                }
+
+                if (System.currentTimeMillis() > deadline) {
+                    throw new IllegalStateException("실행 락 대기 시간 초과: " + lockName);
+                }
+                Thread.sleep(pollMillis);
+            }
+        }
+    }
+
+    private JobExecution findRunning(String jobName, JobParameters jobParameters) {
+        String attachKey = attachKey(jobName, jobParameters);
+        for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+            if (attachKey.equals(attachKey(jobName, execution.getJobParameters()))) {
+                return execution;
+            }
+        }
+        return null;
+    }
+
+    // 잡 이름 + timestamp 를 뺀 파라미터가 같으면 같은 실행으로 본다.
+    private String attachKey(String jobName, JobParameters jobParameters) {
+        Map<String, Object> values = new TreeMap<>();
+        jobParameters.getParameters().forEach((name, parameter) -> {
+            if (!TIMESTAMP_PARAMETER.equals(name)) {
+                values.put(name, parameter.getValue());
+            }
+        });
+        return jobName + values;
+    }
+
+    private JobExecution waitForCompletion(Long executionId, long deadline) throws InterruptedException {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        while (execution != null && execution.isRunning()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("실행 중인 잡 대기 시간 초과: executionId=" + executionId);
+            }
+            Thread.sleep(pollMillis);
+            execution = jobExplorer.getJobExecution(executionId);
+        }
+        return execution;
+    }
+
+    private JobExecution await(CompletableFuture<JobExecution> running) throws Exception {
+        try {
+            return running.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean tryLock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, lockName);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void unlock(Connection connection, String lockName) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, lockName);
+            ps.executeQuery().close();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.playdata.batchpractice.service;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+====================================
+     이벤트 기반 마이크로 배치
+====================================
+
+주문이 생성되면 id를 메모리 큐에 넣고, 별도 스레드(drainer)가
+- batch-size 만큼 모이거나
+- max-wait 시간이 지나면
+먼저 도달한 조건에서 orderProcessor / orderWriter 로직을 그대로 실행한다.
+
+큐가 가득 차면 생산자는 offer-timeout 만큼 대기(backpressure)하고,
+그래도 넣지 못한 주문은 PENDING 상태로 남아 기존 polling 잡(orderProcessJob)이 처리한다.
+polling 잡이 같은 주문을 동시에 읽더라도 orderWriter 가 PENDING 인 행을 잠근 뒤 쓰므로(PendingOrderClaimWriter)
+먼저 커밋한 쪽만 반영된다.
+*/
+
+@Service
+@Slf4j
+public class OrderMicroBatchService {
+
+    private static final String PENDING_ORDERS_SQL = """
+            SELECT %s
+            FROM orders
+            WHERE status = 'PENDING'
+            AND id IN (:ids)
+            """.formatted(OrderRowMapper.COLUMNS);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ItemProcessor<Order, Order> orderProcessor;
+    private final ItemWriter<Order> orderWriter;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxWaitMillis;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<Long> queue;
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    public OrderMicroBatchService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("orderProcessor") ItemProcessor<Order, Order> orderProcessor,
+            @Qualifier("orderWriter") ItemWriter<Order> orderWriter,
+            @Value("${batch.micro-batch.enabled:true}") boolean enabled,
+            @Value("${batch.micro-batch.batch-size:50}") int batchSize,
+            @Value("${batch.micro-batch.max-wait-ms:1000}") long maxWaitMillis,
+            @Value("${batch.micro-batch.queue-capacity:1000}") int queueCapacity,
+            @Value("${batch.micro-batch.offer-timeout-ms:200}") long offerTimeoutMillis
+    ) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.orderProcessor = orderProcessor;
+        this.orderWriter = orderWriter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("마이크로 배치 비활성화 - polling 잡만 사용합니다.");
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "order-micro-batch");
+        drainer.setDaemon(true);
+        drainer.start();
+        log.info("마이크로 배치 시작 - batchSize: {}, maxWait: {}ms", batchSize, maxWaitMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (drainer != null) {
+            drainer.interrupt();
+        }
+    }
+
+    /**
+     * 커밋이 끝난 주문 id를 큐에 넣는다.
+     * 큐가 가득 차 있으면 offer-timeout 만큼 생산자를 붙잡아 두고,
+     * 그래도 자리가 없으면 false 를 반환한다. (polling 잡이 나중에 처리)
+     */
+    public boolean publish(Long orderId) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            boolean accepted = queue.offer(orderId, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (!accepted) {
+                log.warn("마이크로 배치 큐 포화 - 주문 {} 은 polling 잡에서 처리됩니다.", orderId);
+            }
+            return accepted;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    private void drainLoop() {
+        List<Long> ids = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                // 첫 건이 들어올 때까지 대기
+                Long first = queue.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                ids.add(first);
+
+                // 배치가 차거나 최대 대기 시간이 지날 때까지 모으기
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                while (ids.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Long next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    ids.add(next);
+                }
+
+                processBatch(ids);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // 실패한 주문은 PENDING 으로 남아 polling 잡이 다시 처리
+                log.error("마이크로 배치 처리 실패 ({}건)", ids.size(), e);
+            } finally {
+                ids.clear();
+            }
+        }
+    }
+
+    private void processBatch(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 이미 polling 잡이 처리한 주문은 제외 (PENDING 만 조회)
+            List<Order> orders = jdbcTemplate.query(PENDING_ORDERS_SQL, Map.of("ids", ids),
+                    new OrderRowMapper());
+
+            Chunk<Order> chunk = new Chunk<>();
+            try {
+                for (Order order : orders) {
+                    Order processed = orderProcessor.process(order);
+                    if (processed != null) {
+                        chunk.add(processed);
+                    }
+                }
+                orderWriter.write(chunk);
+            } catch (Exception e) {
+                throw new IllegalStateException("마이크로 배치 쓰기 실패", e);
+            }
+        });
+        log.info("마이크로 배치 처리 완료: 요청 {}건", ids.size());
+    }
+}
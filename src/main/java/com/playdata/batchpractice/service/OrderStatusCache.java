@@ -0,0 +1,371 @@
+package com.playdata.batchpractice.service;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import com.playdata.batchpractice.repository.OrderRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/*
+====================================
+       주문 상태 조회 캐시
+====================================
+
+상담 도구가 주문 상태를 MySQL 에서 직접 폴링하면 배치 잡과 같은 행을 두고 경쟁한다.
+- 주문번호 -> 상태 를 메모리에 최대 maxEntries 건까지 보관 (넘치면 가장 오래 안 쓴 항목부터 제거, LRU)
+- 주문 Writer 가 청크를 커밋하면 그 청크의 주문들을 한 번에 반영 (OrderStatusCacheWriter)
+- 다른 인스턴스, 실시간 트래픽, 보관 잡이 바꾼 행은 알 수 없으므로 항목은 ttl 이 지나면 DB 에서 다시 읽는다.
+- 캐시 미스는 load-window 동안 동시에 들어온 요청의 주문번호를 모아서 IN 쿼리 한 번으로 읽는다.
+  (같은 주문번호를 동시에 찾는 요청은 하나의 조회 결과를 같이 받음, order_number 유니크 인덱스 사용)
+- DB 에도 없는 주문번호는 not-found-ttl 동안 "없음" 으로 기억해서, 없는 번호를 폴링해도 DB 를 매번 조회하지 않음
+- 적중률, 대략적인 메모리 사용량은 GET /orders/status-cache 로 확인
+*/
+
+@Service
+@Slf4j
+public class OrderStatusCache {
+
+    // 항목 하나의 대략적인 크기 (LinkedHashMap 엔트리 + String 헤더 + 값 객체), 주문번호 글자 수는 따로 더함
+    private static final long ENTRY_OVERHEAD_BYTES = 40 + 40 + 32;
+
+    private final OrderRepository orderRepository;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long notFoundTtlNanos;
+    private final long loadWindowMillis;
+
+    // 주문번호 -> (상태, 만료 시각)
+    private final LinkedHashMap<String, Entry> entries;
+    // 주문번호 -> "없음" 이 만료되는 시각(nanoTime)
+    private final LinkedHashMap<String, Long> notFound;
+    private long keyBytes;
+
+    // 캐시 미스 묶음 조회 (loadLock 으로 보호)
+    private final Object loadLock = new Object();
+    private final Map<String, CompletableFuture<CachedStatus>> loading = new HashMap<>();
+    private List<String> queued = new ArrayList<>();
+    private boolean loaderRunning;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong notFoundHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong dbLoads = new AtomicLong();
+
+    public OrderStatusCache(
+            OrderRepository orderRepository,
+            @Value("${batch.status-cache.max-entries:10000}") int maxEntries,
+            @Value("${batch.status-cache.ttl-ms:30000}") long ttlMillis,
+            @Value("${batch.status-cache.not-found-ttl-ms:5000}") long notFoundTtlMillis,
+            @Value("${batch.status-cache.load-window-ms:2}") long loadWindowMillis
+    ) {
+        this.orderRepository = orderRepository;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.notFoundTtlNanos = TimeUnit.MILLISECONDS.toNanos(notFoundTtlMillis);
+        this.loadWindowMillis = loadWindowMillis;
+        // accessOrder=true: 조회할 때마다 맨 뒤로 이동 -> 맨 앞이 가장 오래 안 쓴 항목
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= OrderStatusCache.this.maxEntries) {
+                    return false;
+                }
+                keyBytes -= keySize(eldest.getKey());
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+        this.notFound = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() <= OrderStatusCache.this.maxEntries) {
+                    return false;
+                }
+                keyBytes -= keySize(eldest.getKey());
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    public CachedStatus get(String orderNumber) {
+        return getAll(List.of(orderNumber)).get(orderNumber);
+    }
+
+    /**
+     * 캐시에 있는 주문은 바로 반환하고, 없거나 만료된 주문만 DB 에서 읽어온다.
+     * DB 에도 없는 주문번호는 결과에서 빠지고, 잠시 "없음" 으로 캐시된다.
+     */
+    public Map<String, CachedStatus> getAll(Collection<String> orderNumbers) {
+        Map<String, CachedStatus> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        int knownMissing = 0;
+        long now = System.nanoTime();
+        synchronized (this) {
+            for (String orderNumber : orderNumbers) {
+                CachedStatus cached = freshStatus(orderNumber, now);
+                if (cached != null) {
+                    result.put(orderNumber, cached);
+                } else if (isKnownMissing(orderNumber, now)) {
+                    knownMissing++;
+                } else {
+                    missing.add(orderNumber);
+                }
+            }
+        }
+        hits.addAndGet(result.size());
+        notFoundHits.addAndGet(knownMissing);
+        misses.addAndGet(missing.size());
+
+        if (!missing.isEmpty()) {
+            result.putAll(load(missing));
+        }
+        return result;
+    }
+
+    // 만료된 항목은 지우고 null (DB 에서 다시 읽음)
+    private CachedStatus freshStatus(String orderNumber, long now) {
+        Entry entry = entries.get(orderNumber);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - now > 0) {
+            return entry.status();
+        }
+        entries.remove(orderNumber);
+        keyBytes -= keySize(orderNumber);
+        expirations.incrementAndGet();
+        return null;
+    }
+
+    // 만료된 "없음" 은 지우고 다시 DB 에서 확인
+    private boolean isKnownMissing(String orderNumber, long now) {
+        Long expiresAt = notFound.get(orderNumber);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - now > 0) {
+            return true;
+        }
+        notFound.remove(orderNumber);
+        keyBytes -= keySize(orderNumber);
+        return false;
+    }
+
+    /**
+     * 미스난 주문번호를 조회 대기열에 넣고 결과를 기다린다.
+     * 대기열을 처리하는 스레드가 없으면 이 스레드가 맡아서, load-window 만큼 다른 요청의 미스를 더 모은 뒤 한 번에 조회한다.
+     */
+    private Map<String, CachedStatus> load(List<String> missing) {
+        Map<String, CompletableFuture<CachedStatus>> futures = new HashMap<>();
+        boolean leader = false;
+        synchronized (loadLock) {
+            for (String orderNumber : missing) {
+                CompletableFuture<CachedStatus> future = loading.get(orderNumber);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    loading.put(orderNumber, future);
+                    queued.add(orderNumber);
+                }
+                futures.put(orderNumber, future);
+            }
+            if (!loaderRunning && !queued.isEmpty()) {
+                loaderRunning = true;
+                leader = true;
+            }
+        }
+        if (leader) {
+            drainQueue();
+        }
+
+        Map<String, CachedStatus> result = new HashMap<>();
+        try {
+            futures.forEach((orderNumber, future) -> {
+                CachedStatus status = future.join();
+                if (status != null) {
+                    result.put(orderNumber, status);
+                }
+            });
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return result;
+    }
+
+    private void drainQueue() {
+        try {
+            if (loadWindowMillis > 0) {
+                Thread.sleep(loadWindowMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (true) {
+            List<String> batch;
+            synchronized (loadLock) {
+                if (queued.isEmpty()) {
+                    loaderRunning = false;
+                    return;
+                }
+                batch = queued;
+                queued = new ArrayList<>();
+            }
+            loadBatch(batch);
+        }
+    }
+
+    private void loadBatch(List<String> batch) {
+        Map<String, CachedStatus> found = new HashMap<>();
+        RuntimeException failure = null;
+        try {
+            dbLoads.incrementAndGet();
+            for (Order order : orderRepository.findByOrderNumberIn(batch)) {
+                found.put(order.getOrderNumber(), putLoaded(order));
+            }
+            rememberMissing(batch, found);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        List<CompletableFuture<CachedStatus>> futures = new ArrayList<>(batch.size());
+        synchronized (loadLock) {
+            for (String orderNumber : batch) {
+                futures.add(loading.remove(orderNumber));
+            }
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (failure != null) {
+                futures.get(i).completeExceptionally(failure);
+            } else {
+                futures.get(i).complete(found.get(batch.get(i)));
+            }
+        }
+    }
+
+    private synchronized void rememberMissing(List<String> requested, Map<String, CachedStatus> found) {
+        long expiresAt = System.nanoTime() + notFoundTtlNanos;
+        for (String orderNumber : requested) {
+            if (found.containsKey(orderNumber) || entries.containsKey(orderNumber)) {
+                continue;
+            }
+            if (notFound.put(orderNumber, expiresAt) == null) {
+                keyBytes += keySize(orderNumber);
+            }
+        }
+    }
+
+    private void forgetMissing(String orderNumber) {
+        if (notFound.remove(orderNumber) != null) {
+            keyBytes -= keySize(orderNumber);
+        }
+    }
+
+    /**
+     * 커밋된 주문 상태를 한 번에 반영 (write-through)
+     */
+    public synchronized void putAll(Collection<? extends Order> orders) {
+        long expiresAt = System.nanoTime() + ttlNanos;
+        for (Order order : orders) {
+            forgetMissing(order.getOrderNumber());
+            Entry previous = entries.put(order.getOrderNumber(), new Entry(CachedStatus.of(order), expiresAt));
+            if (previous == null) {
+                keyBytes += keySize(order.getOrderNumber());
+            }
+        }
+    }
+
+    // DB 에서 읽는 사이 Writer 가 더 새로운 상태를 넣었으면(아직 유효하면) 그 값을 유지
+    private synchronized CachedStatus putLoaded(Order order) {
+        forgetMissing(order.getOrderNumber());
+        long now = System.nanoTime();
+        CachedStatus current = freshStatus(order.getOrderNumber(), now);
+        if (current != null) {
+            return current;
+        }
+        CachedStatus loaded = CachedStatus.of(order);
+        entries.put(order.getOrderNumber(), new Entry(loaded, now + ttlNanos));
+        keyBytes += keySize(order.getOrderNumber());
+        return loaded;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        notFound.clear();
+        keyBytes = 0;
+    }
+
+    public Stats stats() {
+        int size;
+        int notFoundSize;
+        long estimatedBytes;
+        synchronized (this) {
+            size = entries.size();
+            notFoundSize = notFound.size();
+            estimatedBytes = (long) (size + notFoundSize) * ENTRY_OVERHEAD_BYTES + keyBytes;
+        }
+        long hitCount = hits.get();
+        long notFoundHitCount = notFoundHits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + notFoundHitCount + missCount;
+        return new Stats(
+                size,
+                notFoundSize,
+                maxEntries,
+                hitCount,
+                notFoundHitCount,
+                missCount,
+                // 실제 주문 상태를 캐시에서 돌려준 비율 ("없음" 적중은 notFoundHits 로 따로 집계)
+                lookups == 0 ? 0 : (double) hitCount / lookups,
+                expirations.get(),
+                evictions.get(),
+                dbLoads.get(),
+                estimatedBytes
+        );
+    }
+
+    private static long keySize(String orderNumber) {
+        return orderNumber.length() * 2L;
+    }
+
+    private record Entry(CachedStatus status, long expiresAt) {
+    }
+
+    public record CachedStatus(OrderStatus status, LocalDateTime processedDate) {
+
+        static CachedStatus of(Order order) {
+            return new CachedStatus(order.getStatus(), order.getProcessedDate());
+        }
+    }
+
+    public record Stats(
+            int size,
+            int notFoundSize,
+            int maxEntries,
+            long hits,
+            long notFoundHits,
+            long misses,
+            double hitRatio,
+            long expirations,
+            long evictions,
+            long dbLoads,
+            long estimatedBytes
+    ) {
+    }
+}
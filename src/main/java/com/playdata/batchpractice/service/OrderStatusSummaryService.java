@@ -0,0 +1,130 @@
+package com.playdata.batchpractice.service;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/*
+====================================
+     주문 상태 집계 테이블 관리
+====================================
+
+주문 상태가 바뀔 때마다 order_status_summary 의 (일자, 상태) 카운트를 증감한다.
+- Writer: 청크 단위로 (일자, 상태)별로 묶어서 한 번의 batch upsert
+- 테스트 데이터 생성기: 주문 생성 시 PENDING 증가
+- 어긋난 값은 orderSummaryReconcileJob 이 orders 를 기준으로 다시 계산
+*/
+
+@Service
+@Slf4j
+public class OrderStatusSummaryService {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO order_status_summary (order_day, status, order_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderStatusSummaryService(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void increment(LocalDate orderDay, OrderStatus status, long delta) {
+        jdbcTemplate.update(UPSERT_SQL, orderDay, status.name(), delta);
+    }
+
+    /**
+     * 청크에서 상태가 바뀐 주문들을 집계에 반영 (from 상태 -1, 현재 상태 +1).
+     * 호출한 쪽의 트랜잭션(청크 트랜잭션)에 함께 참여한다.
+     */
+    public void applyStatusChanges(Collection<? extends Order> orders, OrderStatus from) {
+        Map<DayStatus, Long> deltas = sortedDeltas();
+        for (Order order : orders) {
+            if (order.getStatus() == from) {
+                continue;
+            }
+            LocalDate day = order.getOrderDate().toLocalDate();
+            deltas.merge(new DayStatus(day, from), -1L, Long::sum);
+            deltas.merge(new DayStatus(day, order.getStatus()), 1L, Long::sum);
+        }
+        upsert(deltas);
+    }
+
+    /**
+     * orders 에서 빠지는 주문들(보관 이동)을 현재 상태 기준으로 집계에서 차감.
+     * 호출한 쪽의 트랜잭션에 함께 참여한다.
+     */
+    public void removeOrders(Collection<? extends Order> orders) {
+        Map<DayStatus, Long> deltas = sortedDeltas();
+        for (Order order : orders) {
+            deltas.merge(new DayStatus(order.getOrderDate().toLocalDate(), order.getStatus()), -1L, Long::sum);
+        }
+        upsert(deltas);
+    }
+
+    // 정렬된 키 순서로 갱신해서 동시에 도는 Writer 끼리 데드락이 나지 않게 함
+    private static Map<DayStatus, Long> sortedDeltas() {
+        return new TreeMap<>(Comparator.comparing(DayStatus::day).thenComparing(DayStatus::status));
+    }
+
+    private void upsert(Map<DayStatus, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> args.add(new Object[]{key.day(), key.status().name(), delta}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    public void reset() {
+        jdbcTemplate.update("DELETE FROM order_status_summary");
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT id FROM order_status_summary LIMIT 1", Long.class).isEmpty();
+    }
+
+    /**
+     * orders 를 기준으로 집계 테이블 전체를 다시 계산 (drift 복구용)
+     * INSERT ... SELECT 는 REPEATABLE READ 에서 읽은 orders 행을 모두 잠그므로,
+     * 잠그지 않는 일반 SELECT 로 집계한 뒤 집계 테이블만 교체한다.
+     * 실행 그룹을 거치지 않는 Writer(실시간 마이크로배치, 보관 잡, 테스트 데이터 생성기)도 있으므로
+     * 집계 테이블을 먼저 FOR UPDATE 로 잠근 뒤에 첫 일반 SELECT 로 스냅샷을 잡는다.
+     * - 잠그기 전에 커밋된 변경은 스냅샷에 보이고
+     * - 이후의 변경은 집계 upsert 에서 재계산이 커밋될 때까지 기다렸다가 새 값 위에 더해진다.
+     */
+    @Transactional
+    public int rebuild() {
+        // 기존 행 + 빈 구간(next-key lock)을 잠가서 새 (일자, 상태) 행 추가도 막음
+        jdbcTemplate.queryForList("SELECT id FROM order_status_summary FOR UPDATE", Long.class);
+
+        List<Object[]> counts = jdbcTemplate.query("""
+                SELECT CAST(order_date AS DATE), status, COUNT(*)
+                FROM orders
+                GROUP BY CAST(order_date AS DATE), status
+                """, (rs, rowNum) -> new Object[]{rs.getObject(1, LocalDate.class), rs.getString(2), rs.getLong(3)});
+
+        reset();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO order_status_summary (order_day, status, order_count) VALUES (?, ?, ?)", counts);
+        log.info("주문 집계 재계산 완료: {}개 (일자, 상태) 행", counts.size());
+        return counts.size();
+    }
+
+    private record DayStatus(LocalDate day, OrderStatus status) {
+    }
+}
@@ -14,9 +14,14 @@ import org.springframework.stereotype.Service;
 public class OrderTestDataService {
 
     private final OrderRepository orderRepository;
+    private final OrderMicroBatchService orderMicroBatchService;
+    private final OrderStatusSummaryService orderStatusSummaryService;
+    private final OrderStatusCache orderStatusCache;
 
     public void createTestOrder() {
         orderRepository.deleteAll();
+        orderStatusSummaryService.reset();
+        orderStatusCache.clear();
 
         String[] customers = {"김철수", "이영희", "박민수", "최지원", "정수연", "한승호", "양미래", "임도현", "백지연", "홍길동"};
         Random random = new Random();
@@ -36,8 +41,11 @@ public class OrderTestDataService {
             order.setStatus(Order.OrderStatus.PENDING);
             order.setOrderDate(orderDate);
 
-            orderRepository.save(order);
+            Order saved = orderRepository.save(order);
+            orderStatusSummaryService.increment(orderDate.toLocalDate(), Order.OrderStatus.PENDING, 1);
 
+            // 저장(커밋) 후 마이크로 배치 큐로 전달
+            orderMicroBatchService.publish(saved.getId());
         }
     }
 }
@@ -0,0 +1,144 @@
+package com.playdata.batchpractice.writer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.service.OrderStatusCache;
+import com.playdata.batchpractice.service.OrderStatusSummaryService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.support.CompositeItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+====================================
+       주문 다중 테이블 Writer
+====================================
+
+주문 상태가 바뀔 때 함께 써야 하는 테이블
+- orders        : 상태 UPDATE (각 Config 에서 만든 JdbcBatchItemWriter)
+- order_history : 상태 변경 이력 INSERT
+- order_outbox  : 다른 서비스로 보낼 이벤트 INSERT
+
+청크 하나에 대해 테이블마다 batch 문 한 번씩, 모두 같은 청크 트랜잭션 안에서 실행된다. (CompositeItemWriter)
+order_history, order_outbox 는 batch.order-writer.* 설정으로 켜고 끌 수 있다.
+orders 상태 UPDATE 는 끌 수 없다. 끄면 주문이 PENDING 으로 남아 매번 다시 읽히고 이력/이벤트가 중복되므로
+batch.order-writer.status-update=false 는 시작 시점에 거부한다.
+같은 트랜잭션에서 주문 상태 집계도 갱신하고, 커밋 후에는 주문 상태 캐시(OrderStatusCache)에도 반영한다.
+
+모든 쓰기는 PendingOrderClaimWriter 가 아직 PENDING 인 주문을 잠근 뒤, 그 주문들에만 실행된다.
+(polling 잡과 마이크로 배치가 같은 주문을 동시에 처리할 때 이력/이벤트/집계가 두 번 쓰이지 않도록)
+*/
+
+@Component
+@Slf4j
+public class OrderFanOutWriterFactory {
+
+    private static final String OUTBOX_EVENT_TYPE = "ORDER_STATUS_CHANGED";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final OrderStatusCache orderStatusCache;
+    private final OrderStatusSummaryService orderStatusSummaryService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean historyEnabled;
+    private final boolean outboxEnabled;
+
+    public OrderFanOutWriterFactory(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            OrderStatusCache orderStatusCache,
+            OrderStatusSummaryService orderStatusSummaryService,
+            @Value("${batch.order-writer.status-update:true}") boolean statusUpdateEnabled,
+            @Value("${batch.order-writer.history:true}") boolean historyEnabled,
+            @Value("${batch.order-writer.outbox:true}") boolean outboxEnabled
+    ) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.orderStatusCache = orderStatusCache;
+        this.orderStatusSummaryService = orderStatusSummaryService;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        if (!statusUpdateEnabled) {
+            throw new IllegalStateException(
+                    "batch.order-writer.status-update 는 끌 수 없음 (PENDING 주문이 반복 처리되어 이력/이벤트가 중복됨)");
+        }
+        this.historyEnabled = historyEnabled;
+        this.outboxEnabled = outboxEnabled;
+    }
+
+    public ItemWriter<Order> create(JdbcBatchItemWriter<Order> statusWriter) {
+        // 순서대로 실행: orders -> order_history -> order_outbox -> order_status_summary
+        List<ItemWriter<? super Order>> targets = new ArrayList<>();
+        targets.add(statusWriter);
+        if (historyEnabled) {
+            targets.add(historyWriter());
+        }
+        if (outboxEnabled) {
+            targets.add(outboxWriter());
+        }
+        targets.add(new OrderStatusSummaryWriter(orderStatusSummaryService));
+
+        CompositeItemWriter<Order> fanOutWriter = new CompositeItemWriter<>();
+        fanOutWriter.setDelegates(targets);
+        return new PendingOrderClaimWriter(jdbcTemplate, new OrderStatusCacheWriter(fanOutWriter, orderStatusCache));
+    }
+
+    private JdbcBatchItemWriter<Order> historyWriter() {
+        JdbcBatchItemWriter<Order> writer = new JdbcBatchItemWriter<>();
+        writer.setDataSource(dataSource);
+        writer.setSql("""
+            INSERT INTO order_history (order_id, order_number, from_status, to_status, changed_at)
+            VALUES (?, ?, ?, ?, ?)
+            """);
+        writer.setItemPreparedStatementSetter((order, ps) -> {
+            ps.setLong(1, order.getId());
+            ps.setString(2, order.getOrderNumber());
+            // 주문 Reader 는 PENDING 만 읽으므로 변경 전 상태는 항상 PENDING
+            ps.setString(3, Order.OrderStatus.PENDING.name());
+            ps.setString(4, order.getStatus().name());
+            ps.setObject(5, LocalDateTime.now());
+        });
+        writer.afterPropertiesSet();
+        return writer;
+    }
+
+    private JdbcBatchItemWriter<Order> outboxWriter() {
+        JdbcBatchItemWriter<Order> writer = new JdbcBatchItemWriter<>();
+        writer.setDataSource(dataSource);
+        writer.setSql("""
+            INSERT INTO order_outbox (aggregate_id, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?)
+            """);
+        writer.setItemPreparedStatementSetter((order, ps) -> {
+            ps.setLong(1, order.getId());
+            ps.setString(2, OUTBOX_EVENT_TYPE);
+            ps.setString(3, payload(order));
+            ps.setObject(4, LocalDateTime.now());
+        });
+        writer.afterPropertiesSet();
+        return writer;
+    }
+
+    private String payload(Order order) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("orderNumber", order.getOrderNumber());
+        payload.put("status", order.getStatus().name());
+        payload.put("amount", order.getAmount());
+        payload.put("processedDate", order.getProcessedDate());
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패: " + order.getOrderNumber(), e);
+        }
+    }
+}
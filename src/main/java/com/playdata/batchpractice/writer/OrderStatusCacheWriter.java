@@ -0,0 +1,36 @@
+package com.playdata.batchpractice.writer;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.service.OrderStatusCache;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 주문 Writer 를 감싸서, 청크 트랜잭션이 커밋된 뒤에 주문 상태 캐시를 한 번에 갱신
+// (롤백된 청크의 상태가 캐시에 남지 않도록 커밋 이후에 반영)
+@RequiredArgsConstructor
+public class OrderStatusCacheWriter implements ItemWriter<Order> {
+
+    private final ItemWriter<Order> delegate;
+    private final OrderStatusCache orderStatusCache;
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) throws Exception {
+        delegate.write(chunk);
+
+        List<? extends Order> items = List.copyOf(chunk.getItems());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderStatusCache.putAll(items);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderStatusCache.putAll(items);
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.playdata.batchpractice.writer;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import com.playdata.batchpractice.service.OrderStatusSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+// 같은 청크 트랜잭션 안에서 주문 상태 집계 갱신 (OrderFanOutWriterFactory 의 대상 중 하나)
+// PendingOrderClaimWriter 가 PENDING 인 주문만 넘겨주므로 변경 전 상태는 PENDING 으로 본다.
+@RequiredArgsConstructor
+public class OrderStatusSummaryWriter implements ItemWriter<Order> {
+
+    private final OrderStatusSummaryService orderStatusSummaryService;
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) {
+        orderStatusSummaryService.applyStatusChanges(chunk.getItems(), OrderStatus.PENDING);
+    }
+}
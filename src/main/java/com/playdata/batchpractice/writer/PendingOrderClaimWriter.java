@@ -0,0 +1,52 @@
+package com.playdata.batchpractice.writer;
+
+import com.playdata.batchpractice.entity.Order;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+// 쓰기 전에 아직 PENDING 인 주문 행을 잠그고(SELECT ... FOR UPDATE), 잠근 주문만 delegate 로 넘긴다.
+// polling 잡과 마이크로 배치가 같은 주문을 동시에 처리해도 먼저 커밋한 쪽만 반영되고,
+// 나중 쪽은 잠금이 풀린 뒤 최신 상태(PENDING 아님)를 읽어 그 주문의 상태/이력/이벤트/집계를 모두 건너뛴다.
+@Slf4j
+@RequiredArgsConstructor
+public class PendingOrderClaimWriter implements ItemWriter<Order> {
+
+    private static final String CLAIM_SQL = """
+            SELECT id FROM orders
+            WHERE id IN (:ids)
+            AND status = 'PENDING'
+            FOR UPDATE
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ItemWriter<Order> delegate;
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) throws Exception {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Long> ids = chunk.getItems().stream().map(Order::getId).toList();
+        Set<Long> claimedIds = new HashSet<>(jdbcTemplate.queryForList(CLAIM_SQL, Map.of("ids", ids), Long.class));
+
+        Chunk<Order> claimed = new Chunk<>();
+        for (Order order : chunk) {
+            if (claimedIds.contains(order.getId())) {
+                claimed.add(order);
+            }
+        }
+        if (claimed.size() < chunk.size()) {
+            log.info("다른 실행에서 이미 처리된 주문 {}건 제외", chunk.size() - claimed.size());
+        }
+        if (!claimed.isEmpty()) {
+            delegate.write(claimed);
+        }
+    }
+}
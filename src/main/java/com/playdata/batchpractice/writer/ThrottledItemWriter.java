@@ -0,0 +1,50 @@
+package com.playdata.batchpractice.writer;
+
+import com.playdata.batchpractice.service.AdaptiveWriteThrottle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+// 쓰기 전에 AdaptiveWriteThrottle 에서 토큰을 받고, 쓰기 시간을 다시 알려줘서 속도를 조정
+// step 이 끝나면 대기한 시간을 ExitStatus 설명(step 요약)에 남긴다.
+@RequiredArgsConstructor
+@Slf4j
+public class ThrottledItemWriter<T> implements ItemWriter<T>, StepExecutionListener {
+
+    private final ItemWriter<T> delegate;
+    private final AdaptiveWriteThrottle throttle;
+
+    // stepExecutionId -> 대기한 시간(ns)
+    private final Map<Long, Long> throttledNanos = new ConcurrentHashMap<>();
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        long waited = throttle.acquire(chunk.size());
+
+        long start = System.nanoTime();
+        delegate.write(chunk);
+        throttle.recordWrite(chunk.size(), System.nanoTime() - start);
+
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context != null && waited > 0) {
+            throttledNanos.merge(context.getStepExecution().getId(), waited, Long::sum);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Long nanos = throttledNanos.remove(stepExecution.getId());
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos != null ? nanos : 0);
+        log.info("[{}] 쓰기 제한 대기: {}ms ({})", stepExecution.getStepName(), millis, throttle.describe());
+        return stepExecution.getExitStatus().addExitDescription("throttled " + millis + "ms");
+    }
+}
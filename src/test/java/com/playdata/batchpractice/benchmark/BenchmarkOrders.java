@@ -0,0 +1,52 @@
+package com.playdata.batchpractice.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// 벤치마크용 주문 데이터 채우기 (orders 를 비우고 count 건을 1000건씩 batch insert)
+final class BenchmarkOrders {
+
+    private static final String[] CUSTOMERS = {"김철수", "이영희", "박민수", "최지원", "정수연"};
+    private static final int BATCH_SIZE = 1000;
+
+    private BenchmarkOrders() {
+    }
+
+    // 10분 이상 지난 PENDING 주문 (모든 주문 잡의 처리 대상)
+    static void seedPending(JdbcTemplate jdbcTemplate, String prefix, int count) {
+        seed(jdbcTemplate, prefix, count, false);
+    }
+
+    // PENDING / COMPLETED(처리 시각 있음) 를 번갈아 - 모든 컬럼을 채워서 RowMapper 비교에 사용
+    static void seedPendingAndCompleted(JdbcTemplate jdbcTemplate, String prefix, int count) {
+        seed(jdbcTemplate, prefix, count, true);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, String prefix, int count, boolean alternateCompleted) {
+        jdbcTemplate.update("DELETE FROM orders");
+        Timestamp orderDate = Timestamp.valueOf(LocalDateTime.now().minusMinutes(30));
+        Timestamp processedDate = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= count; i++) {
+            boolean completed = alternateCompleted && i % 2 == 1;
+            batch.add(new Object[]{
+                    prefix + String.format("%08d", i),
+                    CUSTOMERS[i % CUSTOMERS.length],
+                    (i % 30 + 1) * 1000,
+                    completed ? "COMPLETED" : "PENDING",
+                    orderDate,
+                    completed ? processedDate : null
+            });
+            if (batch.size() == BATCH_SIZE || i == count) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO orders (order_number, customer_name, amount, status, order_date, processed_date)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """, batch);
+                batch.clear();
+            }
+        }
+    }
+}
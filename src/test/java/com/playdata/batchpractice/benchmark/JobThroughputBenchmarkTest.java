@@ -0,0 +1,238 @@
+package com.playdata.batchpractice.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+====================================
+     잡 처리량 회귀 벤치마크
+====================================
+
+내장 DB(H2)에 주문 데이터와 회원 csv 를 만든 뒤 각 잡을 끝까지 실행하고
+items/sec, 최대 heap 사용량, 커밋 수를 JSON 리포트로 남긴다.
+baseline.json 보다 처리량이 max-regression-percent 이상 떨어지면 실패.
+baseline 이 없어도 실패한다. (비교 없이 통과하면 회귀 검사가 꺼진 것과 같으므로)
+
+처리량은 실행 환경에 따라 달라지므로 baseline 은 같은 환경에서 실제로 측정한 리포트로 만든다.
+실행: ./gradlew benchmark -Pbenchmark.orders=100000
+기준 기록: ./gradlew benchmark -Pbenchmark.record (비교 없이 이번 리포트를 baseline.json 으로 저장)
+*/
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Slf4j
+class JobThroughputBenchmarkTest {
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("csvToDbJob")
+    private Job csvToDbJob;
+
+    @Autowired
+    @Qualifier("orderProcessJob")
+    private Job orderProcessJob;
+
+    @Autowired
+    @Qualifier("faultTolerantJob")
+    private Job faultTolerantJob;
+
+    @Autowired
+    @Qualifier("parameterJob")
+    private Job parameterJob;
+
+    @TempDir
+    private Path tempDir;
+
+    @Value("${benchmark.orders}")
+    private int orderCount;
+
+    @Value("${benchmark.users}")
+    private int userCount;
+
+    @Value("${benchmark.max-regression-percent}")
+    private double maxRegressionPercent;
+
+    @Value("${benchmark.baseline:src/test/resources/benchmark/baseline.json}")
+    private String baselinePath;
+
+    @Value("${benchmark.report:build/reports/benchmark/job-throughput.json}")
+    private String reportPath;
+
+    @Value("${benchmark.record:false}")
+    private boolean record;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Test
+    void jobThroughputDoesNotRegress() throws Exception {
+        Map<String, JobResult> results = new LinkedHashMap<>();
+
+        results.put("csvToDbJob", run(csvToDbJob, new JobParametersBuilder()
+                .addString("inputFile", writeUsersCsv().toString())
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters()));
+
+        BenchmarkOrders.seedPending(jdbcTemplate, "BENCH", orderCount);
+        results.put("orderProcessJob", run(orderProcessJob, timestampParameters()));
+
+        BenchmarkOrders.seedPending(jdbcTemplate, "BENCH", orderCount);
+        results.put("faultTolerantJob", run(faultTolerantJob, timestampParameters()));
+
+        BenchmarkOrders.seedPending(jdbcTemplate, "BENCH", orderCount);
+        LocalDate today = LocalDate.now();
+        results.put("parameterJob", run(parameterJob, new JobParametersBuilder()
+                .addString("startDate", today.minusDays(7).toString())
+                .addString("endDate", today.toString())
+                .addString("minAmount", "0")
+                .addString("processingMode", "NORMAL")
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters()));
+
+        writeReport(results, reportPath);
+        if (record) {
+            writeReport(results, baselinePath);
+            return;
+        }
+
+        List<String> regressions = findRegressions(results);
+        assertThat(regressions)
+                .as("기준 대비 처리량 %.0f%% 이상 하락", maxRegressionPercent)
+                .isEmpty();
+    }
+
+    private JobResult run(Job job, JobParameters parameters) throws Exception {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long start = System.nanoTime();
+        JobExecution execution = jobLauncher.run(job, parameters);
+        long elapsedNanos = System.nanoTime() - start;
+
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long items = 0;
+        long commits = 0;
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            items += stepExecution.getWriteCount();
+            commits += stepExecution.getCommitCount();
+        }
+
+        JobResult result = new JobResult(
+                execution.getStatus().name(),
+                items,
+                elapsedNanos / 1_000_000,
+                items * 1_000_000_000.0 / elapsedNanos,
+                peakHeap,
+                commits
+        );
+        log.info("[benchmark] {} -> {}", job.getName(), result);
+        assertThat(execution.getStatus().name()).as(job.getName()).isEqualTo("COMPLETED");
+        return result;
+    }
+
+    private JobParameters timestampParameters() {
+        return new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters();
+    }
+
+    // csvToDbJob 입력: users.csv 와 같은 형식으로 회원 userCount 명
+    private Path writeUsersCsv() throws IOException {
+        jdbcTemplate.update("DELETE FROM users");
+        Path csv = tempDir.resolve("users-" + userCount + ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv)) {
+            writer.write("id,name,email,age,city");
+            writer.newLine();
+            for (int i = 1; i <= userCount; i++) {
+                writer.write(i + ",회원" + i + ",bench" + i + "@example.com," + (20 + i % 50) + ",서울");
+                writer.newLine();
+            }
+        }
+        return csv;
+    }
+
+    private void writeReport(Map<String, JobResult> results, String path) throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("orders", orderCount);
+        report.put("users", userCount);
+        report.put("jobs", results);
+
+        File file = new File(path);
+        file.getParentFile().mkdirs();
+        objectMapper.writeValue(file, report);
+        log.info("[benchmark] 리포트 저장: {}", file.getAbsolutePath());
+    }
+
+    private List<String> findRegressions(Map<String, JobResult> results) throws Exception {
+        List<String> regressions = new ArrayList<>();
+        File file = new File(baselinePath);
+        assertThat(file)
+                .as("baseline 파일이 없음 - 먼저 ./gradlew benchmark -Pbenchmark.record 로 기록")
+                .exists();
+
+        JsonNode baselineJobs = objectMapper.readTree(file).path("jobs");
+        results.forEach((jobName, result) -> {
+            JsonNode baseline = baselineJobs.path(jobName).path("itemsPerSecond");
+            if (baseline.isMissingNode()) {
+                regressions.add(jobName + ": baseline 에 기준치 없음 (-Pbenchmark.record 로 다시 기록)");
+                return;
+            }
+            double floor = baseline.asDouble() * (1 - maxRegressionPercent / 100);
+            if (result.itemsPerSecond() < floor) {
+                regressions.add(String.format("%s: %.1f items/sec (기준 %.1f, 하한 %.1f)",
+                        jobName, result.itemsPerSecond(), baseline.asDouble(), floor));
+            }
+        });
+        return regressions;
+    }
+
+    record JobResult(
+            String status,
+            long items,
+            long durationMs,
+            double itemsPerSecond,
+            long peakHeapBytes,
+            long commitCount
+    ) {
+    }
+}
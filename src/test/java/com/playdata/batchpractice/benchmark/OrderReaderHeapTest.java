@@ -0,0 +1,107 @@
+package com.playdata.batchpractice.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.playdata.batchpractice.entity.Order;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+====================================
+   주문 Reader heap 사용량 테스트
+====================================
+
+행 수를 4배로 늘려도 Reader 가 유지하는 heap 이 같이 늘어나지 않는지 확인.
+읽는 도중 몇 번 GC 후 남아있는 heap(retained)을 재서 행 수와 무관하게 평평한지 본다.
+
+버퍼링은 MySQL Connector/J 의 동작이라 H2 로는 확인할 수 없으므로 Testcontainers 로 MySQL 을 띄워서 실행한다.
+(Docker 가 없으면 건너뜀, cursor-mode: BUFFERED 로 바꾸면 실패해야 정상)
+*/
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.database=mysql",
+        "spring.jpa.database-platform=org.hibernate.dialect.MySQLDialect",
+        "spring.sql.init.schema-locations=classpath:org/springframework/batch/core/schema-mysql.sql"
+})
+@ActiveProfiles("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class OrderReaderHeapTest {
+
+    // CURSOR_FETCH 모드는 URL 에 useCursorFetch=true 가 있어야 서버 측 커서를 사용
+    // rewriteBatchedStatements: 테스트 데이터 INSERT 를 빠르게
+    @Container
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("useCursorFetch", "true")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    private static final int SAMPLES = 5;
+    private static final long TOLERANCE_BYTES = 16L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("pendingOrderReader")
+    private JdbcCursorItemReader<Order> pendingOrderReader;
+
+    @Value("${benchmark.heap-rows}")
+    private int rows;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    void retainedHeapStaysFlatAsRowCountGrows() throws Exception {
+        long small = retainedGrowthWhileReading(rows);
+        long large = retainedGrowthWhileReading(rows * 4);
+
+        log.info("[heap] {}행: {}KB, {}행: {}KB", rows, small / 1024, rows * 4, large / 1024);
+        assertThat(large - small)
+                .as("행 수가 4배일 때 Reader 의 heap 증가량")
+                .isLessThan(TOLERANCE_BYTES);
+    }
+
+    private long retainedGrowthWhileReading(int count) throws Exception {
+        BenchmarkOrders.seedPending(jdbcTemplate, "HEAP", count);
+        long baseline = retainedHeap();
+        long peak = 0;
+        int sampleEvery = Math.max(1, count / SAMPLES);
+
+        pendingOrderReader.open(new ExecutionContext());
+        try {
+            int read = 0;
+            while (pendingOrderReader.read() != null) {
+                if (++read % sampleEvery == 0) {
+                    peak = Math.max(peak, retainedHeap() - baseline);
+                }
+            }
+            assertThat(read).isEqualTo(count);
+        } finally {
+            pendingOrderReader.close();
+        }
+        return peak;
+    }
+
+    private long retainedHeap() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
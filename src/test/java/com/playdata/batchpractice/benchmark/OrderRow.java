@@ -0,0 +1,34 @@
+package com.playdata.batchpractice.benchmark;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.entity.Order.OrderStatus;
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.RowMapper;
+
+// RowMapper 비교용 읽기 전용 주문 (불변, amount 는 primitive), 컬럼 순서는 OrderRowMapper.COLUMNS 와 같다.
+// 주문 잡/마이크로 배치는 Processor/Writer 가 Order 를 받으므로 운영 코드는 OrderRowMapper 를 쓴다.
+record OrderRow(
+        long id,
+        String orderNumber,
+        String customerName,
+        int amount,
+        OrderStatus status,
+        LocalDateTime orderDate,
+        LocalDateTime processedDate
+) {
+
+    static final RowMapper<OrderRow> ROW_MAPPER = (rs, rowNum) -> new OrderRow(
+            rs.getLong(1),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getInt(4),
+            OrderStatus.valueOf(rs.getString(5)),
+            rs.getObject(6, LocalDateTime.class),
+            rs.getObject(7, LocalDateTime.class)
+    );
+
+    // 기존 Processor/Writer 에 넘길 때 엔티티로 변환
+    Order toOrder() {
+        return new Order(id, orderNumber, customerName, amount, status, orderDate, processedDate);
+    }
+}
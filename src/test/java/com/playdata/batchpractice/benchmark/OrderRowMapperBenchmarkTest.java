@@ -0,0 +1,125 @@
+package com.playdata.batchpractice.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.context.ActiveProfiles;
+
+/*
+====================================
+   주문 RowMapper 비교 벤치마크
+====================================
+
+같은 주문 행을 끝까지 읽으면서 RowMapper 별 rows/sec 와 행당 할당량(bytes/row)을 비교.
+- BeanPropertyRowMapper<Order> (기존)
+- OrderRowMapper (컬럼 순서 기반 Order)
+- OrderRow.ROW_MAPPER (불변 record, primitive amount)
+
+할당량은 측정 스레드의 누적 할당 바이트(com.sun.management.ThreadMXBean)로 잰다.
+JDBC 드라이버가 만드는 객체도 포함되므로 절대값보다 mapper 간 차이를 본다.
+
+실행: ./gradlew benchmark -Pbenchmark.mapper-rows=1000000
+*/
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@Slf4j
+class OrderRowMapperBenchmarkTest {
+
+    private static final String SQL = "SELECT " + OrderRowMapper.COLUMNS + " FROM orders ORDER BY id";
+    private static final int WARMUP_ROUNDS = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${benchmark.mapper-rows}")
+    private int rows;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void indexBasedMappersAllocateLessThanBeanPropertyRowMapper() {
+        BenchmarkOrders.seedPendingAndCompleted(jdbcTemplate, "MAP", rows);
+        assertSameOrders();
+
+        Map<String, RowMapper<?>> mappers = new LinkedHashMap<>();
+        mappers.put("BeanPropertyRowMapper", new BeanPropertyRowMapper<>(Order.class));
+        mappers.put("OrderRowMapper", new OrderRowMapper());
+        mappers.put("OrderRow", OrderRow.ROW_MAPPER);
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mappers.values().forEach(this::scan);
+        }
+
+        Map<String, ScanResult> results = new LinkedHashMap<>();
+        mappers.forEach((name, mapper) -> {
+            ScanResult result = scan(mapper);
+            results.put(name, result);
+            log.info("[mapper] {} -> {}", name, result);
+        });
+
+        double beanBytes = results.get("BeanPropertyRowMapper").bytesPerRow();
+        assertThat(results.get("OrderRowMapper").bytesPerRow())
+                .as("OrderRowMapper 행당 할당량")
+                .isLessThan(beanBytes);
+        assertThat(results.get("OrderRow").bytesPerRow())
+                .as("OrderRow 행당 할당량")
+                .isLessThan(beanBytes);
+    }
+
+    // 인덱스 기반 매핑 결과가 기존 BeanPropertyRowMapper 와 같은지 (앞쪽 일부 행)
+    private void assertSameOrders() {
+        String sample = SQL + " LIMIT 100";
+        List<Order> expected = jdbcTemplate.query(sample, new BeanPropertyRowMapper<>(Order.class));
+        List<Order> actual = jdbcTemplate.query(sample, new OrderRowMapper());
+        List<Order> fromRecord = jdbcTemplate.query(sample, OrderRow.ROW_MAPPER).stream()
+                .map(OrderRow::toOrder)
+                .toList();
+
+        assertThat(actual).usingRecursiveFieldByFieldElementComparator().isEqualTo(expected);
+        assertThat(fromRecord).usingRecursiveFieldByFieldElementComparator().isEqualTo(expected);
+    }
+
+    private ScanResult scan(RowMapper<?> mapper) {
+        long threadId = Thread.currentThread().getId();
+        long[] mapped = new long[1];
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        jdbcTemplate.query(SQL, rs -> {
+            // 결과를 모아두지 않고 한 행씩 매핑만 (heap 보관 비용 제외)
+            if (mapper.mapRow(rs, (int) mapped[0]) != null) {
+                mapped[0]++;
+            }
+        });
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertThat(mapped[0]).isEqualTo(rows);
+        return new ScanResult(
+                mapped[0],
+                elapsedNanos / 1_000_000,
+                mapped[0] * 1_000_000_000.0 / elapsedNanos,
+                (double) allocated / mapped[0]
+        );
+    }
+
+    record ScanResult(long rows, long durationMs, double rowsPerSecond, double bytesPerRow) {
+    }
+}
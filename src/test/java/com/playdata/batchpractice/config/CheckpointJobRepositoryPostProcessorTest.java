@@ -0,0 +1,154 @@
+package com.playdata.batchpractice.config;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.playdata.batchpractice.config.CheckpointJobRepositoryPostProcessor.CheckpointInterceptor;
+import com.playdata.batchpractice.config.CheckpointJobRepositoryPostProcessor.StepCheckpoint;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+
+// 체크포인트 주기 설정한 스텝의 메타데이터 쓰기가 언제 실제 JobRepository 까지 가는지 확인
+// (청크 커밋 = updateExecutionContext -> update 순서, TaskletStep 과 같음)
+class CheckpointJobRepositoryPostProcessorTest {
+
+    private static final String STEP = "checkpointStep";
+
+    private JobRepository target;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        target = mock(JobRepository.class);
+        stepExecution = new StepExecution(STEP, new JobExecution(1L), 10L);
+    }
+
+    @Test
+    void writesFirstStartedSaveAndFinalStatusEvenBetweenCheckpoints() {
+        JobRepository repository = proxy(policy(100, null));
+
+        start(repository);
+        commitChunks(repository, 3);
+        finish(repository);
+
+        // 시작 1번 + 종료 1번, 중간 청크 3번은 모두 생략
+        verify(target, times(2)).update(stepExecution);
+        verify(target, times(1)).updateExecutionContext(stepExecution);
+    }
+
+    @Test
+    void writesCheckpointEveryNChunks() {
+        JobRepository repository = proxy(policy(3, null));
+
+        start(repository);
+        commitChunks(repository, 7);
+
+        // 3번째, 6번째 청크만 저장
+        verify(target, times(2)).updateExecutionContext(stepExecution);
+        verify(target, times(1 + 2)).update(stepExecution);
+    }
+
+    @Test
+    void writesCheckpointWhenIntervalElapsed() throws InterruptedException {
+        JobRepository repository = proxy(policy(1000, Duration.ofMillis(200)));
+
+        start(repository);
+        commitChunks(repository, 1);
+        verify(target, never()).updateExecutionContext(stepExecution);
+
+        Thread.sleep(250);
+        commitChunks(repository, 1);
+        verify(target, times(1)).updateExecutionContext(stepExecution);
+        verify(target, times(1 + 1)).update(stepExecution);
+    }
+
+    @Test
+    void skipsOrWritesContextAndStepExecutionTogether() {
+        JobRepository repository = proxy(policy(2, null));
+
+        start(repository);
+        InOrder order = inOrder(target);
+        order.verify(target).update(stepExecution);
+
+        // 1번째 청크: 둘 다 생략
+        commitChunks(repository, 1);
+        verify(target, never()).updateExecutionContext(stepExecution);
+        verify(target, times(1)).update(stepExecution);
+
+        // 2번째 청크: ExecutionContext 다음에 StepExecution 까지 저장
+        commitChunks(repository, 1);
+        order.verify(target).updateExecutionContext(stepExecution);
+        order.verify(target).update(stepExecution);
+        order.verifyNoMoreInteractions();
+    }
+
+    // application.yml 설정(every-chunks 10)으로 100 청크 스텝: 메타데이터 쓰기 203회 -> 23회 (시작 1 + 청크 2x10 + 종료 2)
+    @Test
+    void reducesMetadataWritesForConfiguredInterval() {
+        JobRepository repository = proxy(policy(10, Duration.ofHours(1)));
+
+        start(repository);
+        commitChunks(repository, 100);
+        finish(repository);
+
+        verify(target, times(10 + 1)).updateExecutionContext(stepExecution);
+        verify(target, times(1 + 10 + 1)).update(stepExecution);
+    }
+
+    @Test
+    void passesThroughStepsWithoutPolicy() {
+        JobRepository repository = proxy(policy(100, null));
+        stepExecution = new StepExecution("otherStep", new JobExecution(1L), 11L);
+
+        start(repository);
+        commitChunks(repository, 3);
+
+        verify(target, times(3)).updateExecutionContext(stepExecution);
+        verify(target, times(1 + 3)).update(stepExecution);
+    }
+
+    private JobRepository proxy(StepCheckpoint policy) {
+        ProxyFactory proxyFactory = new ProxyFactory();
+        proxyFactory.setTarget(target);
+        proxyFactory.addInterface(JobRepository.class);
+        proxyFactory.addAdvice(new CheckpointInterceptor(Map.of(STEP, policy)));
+        return (JobRepository) proxyFactory.getProxy();
+    }
+
+    private static StepCheckpoint policy(int everyChunks, Duration interval) {
+        StepCheckpoint policy = new StepCheckpoint();
+        policy.setEveryChunks(everyChunks);
+        policy.setInterval(interval);
+        return policy;
+    }
+
+    private void start(JobRepository repository) {
+        stepExecution.setStatus(BatchStatus.STARTED);
+        repository.update(stepExecution);
+    }
+
+    private void commitChunks(JobRepository repository, int chunks) {
+        for (int i = 0; i < chunks; i++) {
+            repository.updateExecutionContext(stepExecution);
+            repository.update(stepExecution);
+        }
+    }
+
+    // AbstractStep 종료 순서: updateExecutionContext -> update (종료 상태)
+    private void finish(JobRepository repository) {
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        repository.updateExecutionContext(stepExecution);
+        repository.update(stepExecution);
+    }
+}
@@ -0,0 +1,83 @@
+package com.playdata.batchpractice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+
+// 재시작 상태가 이 형식으로 저장되므로 타입 태그마다 값과 타입이 그대로 돌아오는지 확인
+class CompactExecutionContextSerializerTest {
+
+    private final CompactExecutionContextSerializer serializer = new CompactExecutionContextSerializer();
+
+    @Test
+    void roundTripsEveryTypeTag() throws IOException {
+        Map<String, Object> context = new HashMap<>();
+        context.put("string", "주문 보관");
+        context.put("emptyString", "");
+        context.put("long", 1234567890123L);
+        context.put("negativeLong", -42L);
+        context.put("minLong", Long.MIN_VALUE);
+        context.put("maxLong", Long.MAX_VALUE);
+        context.put("integer", 7);
+        context.put("negativeInteger", -7);
+        context.put("minInteger", Integer.MIN_VALUE);
+        context.put("double", -3.25);
+        context.put("boolean", true);
+        context.put("null", null);
+        context.put("object", List.of(LocalDate.of(2024, 1, 8), "a"));
+
+        Map<String, Object> restored = roundTrip(context);
+
+        assertThat(restored).isEqualTo(context);
+        assertThat(restored.get("negativeInteger")).isInstanceOf(Integer.class);
+        assertThat(restored.get("minInteger")).isInstanceOf(Integer.class);
+        assertThat(restored.get("negativeLong")).isInstanceOf(Long.class);
+        assertThat(restored).containsKey("null");
+    }
+
+    @Test
+    void roundTripsEmptyContext() throws IOException {
+        assertThat(roundTrip(new HashMap<>())).isEmpty();
+    }
+
+    @Test
+    void readsContextWrittenByDefaultSerializer() throws IOException {
+        Map<String, Object> context = new HashMap<>();
+        context.put("archive.cutoff", "2024-01-08T00:00");
+        context.put("archive.lastId", 1000L);
+        context.put("count", -1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DefaultExecutionContextSerializer().serialize(context, out);
+
+        Map<String, Object> restored = serializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+
+        assertThat(restored).isEqualTo(context);
+    }
+
+    @Test
+    void writesSmallerThanDefaultSerializer() throws IOException {
+        Map<String, Object> context = Map.of("archive.lastId", 1000L, "batch.stepType", "tasklet");
+
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        serializer.serialize(context, compact);
+        ByteArrayOutputStream standard = new ByteArrayOutputStream();
+        new DefaultExecutionContextSerializer().serialize(context, standard);
+
+        assertThat(compact.size()).isLessThan(standard.size());
+    }
+
+    private Map<String, Object> roundTrip(Map<String, Object> context) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(context, out);
+        return serializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,37 @@
+package com.playdata.batchpractice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.playdata.batchpractice.config.OrderCursorSettings.Mode;
+import com.playdata.batchpractice.entity.Order;
+import com.playdata.batchpractice.reader.OrderRowMapper;
+import javax.sql.DataSource;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 커서 모드별로 주문 Reader 에 들어가는 fetchSize 확인 (-1: 지정 안 함 = 드라이버 기본값)
+class OrderCursorSettingsTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "BUFFERED, -1",
+            "ROW_STREAMING, -2147483648",
+            "CURSOR_FETCH, 500"
+    })
+    void appliesFetchSizeForMode(Mode mode, int expectedFetchSize) {
+        OrderCursorSettings settings = new OrderCursorSettings(mode, 500);
+
+        JdbcCursorItemReader<Order> reader = settings.apply(new JdbcCursorItemReaderBuilder<Order>())
+                .name("testReader")
+                .dataSource(mock(DataSource.class))
+                .sql("SELECT " + OrderRowMapper.COLUMNS + " FROM orders")
+                .rowMapper(new OrderRowMapper())
+                .build();
+
+        assertThat(ReflectionTestUtils.getField(reader, "fetchSize")).isEqualTo(expectedFetchSize);
+    }
+}